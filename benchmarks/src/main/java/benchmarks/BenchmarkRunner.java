@@ -0,0 +1,35 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * runs the benchmarks and writes the results as JSON so that two runs can be diffed.
+ * usage: java -jar target/benchmarks.jar [include regex] [result file]
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        String resultFile = args.length > 1 ? args[1] :
+                "results/benchmark-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".json";
+
+        File parent = new File(resultFile).getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs())
+            throw new IllegalStateException("could not create the results directory " + parent);
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
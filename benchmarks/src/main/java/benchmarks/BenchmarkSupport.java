@@ -0,0 +1,82 @@
+package benchmarks;
+
+import model.game_building.ConfigBundle;
+import model.game_building.Configuration;
+import model.game_building.GameConstants;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.factories.AtomFactory;
+import model.game_entities.factories.BlockerFactory;
+import model.game_entities.factories.MoleculeFactory;
+import model.game_entities.factories.PowerupFactory;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import services.utils.Coordinates;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * shared setup for the benchmarks: a fixed game configuration and a seeded generator of synthetic entities.
+ */
+public final class BenchmarkSupport {
+
+    public static final double UNIT_L = 50;
+    public static final long SEED = 302;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * installs the benchmark configuration and silences the game loggers.
+     */
+    public static void configure() {
+        Configuration.getInstance().reset(new ConfigBundle(
+                new ArrayList<>(Arrays.asList(100, 100, 100, 100)),
+                new ArrayList<>(Arrays.asList(10, 10, 10, 10)),
+                new ArrayList<>(Arrays.asList(10, 10, 10, 10)),
+                new ArrayList<>(Arrays.asList(10, 10, 10, 10)),
+                new ArrayList<>(Arrays.asList(0, 0, 0, 0)),
+                UNIT_L, false, false, false, false, 2, GameConstants.PEPEGA));
+        Logger.getRootLogger().setLevel(Level.WARN);
+    }
+
+    /**
+     * creates a mix of molecules, atoms, blockers and powerups spread uniformly over the game panel.
+     *
+     * @param count the number of entities
+     * @param seed  the seed of the positions and types
+     */
+    public static List<AutonomousEntity> randomEntities(int count, long seed) {
+        Random random = new Random(seed);
+        Dimension panel = Configuration.getInstance().getGamePanelDimensions();
+        List<AutonomousEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EntityType type = EntityType.forValue(random.nextInt(4));
+            AutonomousEntity entity;
+            switch (i % 4) {
+                case 0:
+                    entity = MoleculeFactory.getInstance().getMolecule(type);
+                    break;
+                case 1:
+                    entity = AtomFactory.getInstance().getAtom(type);
+                    break;
+                case 2:
+                    entity = PowerupFactory.getInstance().getPowerup(type);
+                    break;
+                default:
+                    entity = BlockerFactory.getInstance().getBlocker(type);
+                    break;
+            }
+            // keep the entities away from the end boundaries so that the collision pass does not remove them
+            entity.setCoordinates(new Coordinates(
+                    random.nextDouble() * panel.width,
+                    UNIT_L + random.nextDouble() * (panel.height - 2 * UNIT_L)));
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,80 @@
+package model.game_entities;
+
+import benchmarks.BenchmarkSupport;
+import model.game_entities.enums.EntityType;
+import model.game_entities.factories.AtomFactory;
+import model.game_entities.factories.BlockerFactory;
+import model.game_entities.factories.MoleculeFactory;
+import model.game_entities.factories.PowerupFactory;
+import model.game_physics.hitbox.Hitbox;
+import org.openjdk.jmh.annotations.*;
+import services.utils.Coordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures Entity.isCollidedWith for the hitbox combinations found in the game, with the exact intersection tests
+ * and with the boundary sampling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCollisionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean sampled;
+
+    private Molecule molecule;
+    private Atom atom;
+    private Powerup powerup;
+    private Blocker blocker;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.configure();
+        Hitbox.setSampledCollisions(sampled);
+        molecule = MoleculeFactory.getInstance().getMolecule(EntityType.GAMMA);
+        atom = AtomFactory.getInstance().getAtom(EntityType.ALPHA);
+        powerup = PowerupFactory.getInstance().getPowerup(EntityType.BETA);
+        blocker = BlockerFactory.getInstance().getBlocker(EntityType.SIGMA);
+
+        // overlapping pairs, so that the whole check runs
+        molecule.setCoordinates(new Coordinates(100, 100));
+        atom.setCoordinates(new Coordinates(105, 100));
+        powerup.setCoordinates(new Coordinates(110, 110));
+        blocker.setCoordinates(new Coordinates(300, 300));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Hitbox.setSampledCollisions(false);
+    }
+
+    @Benchmark
+    public boolean circleCircleHit() {
+        return molecule.isCollidedWith(atom);
+    }
+
+    @Benchmark
+    public boolean circleCircleMiss() {
+        return atom.isCollidedWith(blocker);
+    }
+
+    @Benchmark
+    public boolean circleRectangle() {
+        return molecule.isCollidedWith(powerup);
+    }
+
+    @Benchmark
+    public boolean rectangleCircle() {
+        return powerup.isCollidedWith(molecule);
+    }
+
+    @Benchmark
+    public boolean blockerExplosion() {
+        return blocker.isCollidedWith(molecule);
+    }
+}
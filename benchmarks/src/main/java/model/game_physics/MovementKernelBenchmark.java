@@ -0,0 +1,47 @@
+package model.game_physics;
+
+import benchmarks.BenchmarkSupport;
+import model.game_entities.AutonomousEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares one movement step of a population of synthetic entities, moved one by one through their path
+ * patterns and moved by the batch loop of the movement kernel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementKernelBenchmark {
+
+    @Param({"1000", "10000"})
+    public int entities;
+
+    private List<AutonomousEntity> population;
+    private MovementKernel kernel;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        BenchmarkSupport.configure();
+        population = BenchmarkSupport.randomEntities(entities, BenchmarkSupport.SEED);
+        kernel = new MovementKernel();
+    }
+
+    @Benchmark
+    public List<AutonomousEntity> entityMove() {
+        for (AutonomousEntity entity : population)
+            entity.move();
+        return population;
+    }
+
+    @Benchmark
+    public List<AutonomousEntity> kernelMove() {
+        kernel.move(population);
+        return population;
+    }
+}
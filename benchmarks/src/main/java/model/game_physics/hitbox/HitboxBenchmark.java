@@ -0,0 +1,54 @@
+package model.game_physics.hitbox;
+
+import benchmarks.BenchmarkSupport;
+import org.openjdk.jmh.annotations.*;
+import services.utils.Coordinates;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures the point test and the boundary sampling of both hitbox shapes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitboxBenchmark {
+
+    private CircularHitbox circle;
+    private RectangularHitbox rectangle;
+    private Coordinates center;
+    private Coordinates point;
+
+    @Setup
+    public void setup() {
+        circle = new CircularHitbox(0.25 * BenchmarkSupport.UNIT_L);
+        rectangle = new RectangularHitbox(BenchmarkSupport.UNIT_L, 0.5 * BenchmarkSupport.UNIT_L);
+        rectangle.rotate(30);
+        center = new Coordinates(200, 200);
+        point = new Coordinates(205, 210);
+    }
+
+    @Benchmark
+    public boolean circleIsInside() {
+        return circle.isInside(center, point);
+    }
+
+    @Benchmark
+    public boolean rectangleIsInside() {
+        return rectangle.isInside(center, point);
+    }
+
+    @Benchmark
+    public ArrayList<Coordinates> circleBoundaryPoints() {
+        return circle.getBoundaryPoints(center);
+    }
+
+    @Benchmark
+    public ArrayList<Coordinates> rectangleBoundaryPoints() {
+        return rectangle.getBoundaryPoints(center);
+    }
+}
@@ -0,0 +1,48 @@
+package model.game_physics.path_patterns;
+
+import benchmarks.BenchmarkSupport;
+import model.game_entities.enums.EntityType;
+import org.openjdk.jmh.annotations.*;
+import services.utils.Coordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures a single step of every pattern created by the PathPatternFactory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathPatternBenchmark {
+
+    @Param({"ALPHA", "BETA", "GAMMA", "SIGMA", "POWERUP", "ATOM"})
+    public String pattern;
+
+    private PathPattern pathPattern;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        BenchmarkSupport.configure();
+        PathPatternFactory factory = PathPatternFactory.getInstance();
+        switch (pattern) {
+            case "POWERUP":
+                pathPattern = factory.getPowerUpPathPattern();
+                break;
+            case "ATOM":
+                pathPattern = factory.getAtomPathPattern(30);
+                break;
+            default:
+                pathPattern = factory.getMoleculePathPattern(EntityType.valueOf(pattern));
+                break;
+        }
+        pathPattern.setCurrentCoords(new Coordinates(300, 0));
+    }
+
+    @Benchmark
+    public Coordinates nextPosition() {
+        return pathPattern.nextPosition();
+    }
+}
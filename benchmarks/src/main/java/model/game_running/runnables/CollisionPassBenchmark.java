@@ -0,0 +1,85 @@
+package model.game_running.runnables;
+
+import benchmarks.BenchmarkSupport;
+import model.game_entities.*;
+import model.game_running.CollisionVisitor;
+import model.game_running.RunningMode;
+import model.game_running.headless.RecordingGameListener;
+import org.openjdk.jmh.annotations.*;
+import services.utils.VirtualClock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures one full collision pass over a population of synthetic entities.
+ * collisions are only counted, so the population is the same in every pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CollisionPassBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private CollisionRunnable collisionRunnable;
+    private CountingVisitor visitor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.configure();
+        RecordingGameListener listener = new RecordingGameListener();
+        RunningMode runningMode = new RunningMode(listener, listener, listener, listener, listener, listener,
+                new VirtualClock());
+        BenchmarkSupport.randomEntities(entities, BenchmarkSupport.SEED).forEach(runningMode::addEntity);
+        runningMode.publishEntities();
+        visitor = new CountingVisitor();
+        collisionRunnable = new CollisionRunnable(runningMode, visitor);
+    }
+
+    @Benchmark
+    public long collisionPass() {
+        collisionRunnable.tick();
+        return visitor.collisions;
+    }
+
+    /**
+     * a visitor that does not change the game, it only counts the collisions it is asked to handle.
+     */
+    private static class CountingVisitor implements CollisionVisitor {
+        long collisions;
+
+        @Override
+        public void handleCollision(Atom atom, Molecule molecule) {
+            collisions++;
+        }
+
+        @Override
+        public void handleCollision(Atom atom, Blocker blocker) {
+            collisions++;
+        }
+
+        @Override
+        public void handleCollision(Powerup powerup, Blocker blocker) {
+            collisions++;
+        }
+
+        @Override
+        public void handleCollision(Molecule molecule, Blocker blocker) {
+            collisions++;
+        }
+
+        @Override
+        public void handleCollision(Shooter shooter, Blocker blocker) {
+            collisions++;
+        }
+
+        @Override
+        public void handleCollision(Shooter shooter, Powerup powerup) {
+            collisions++;
+        }
+    }
+}
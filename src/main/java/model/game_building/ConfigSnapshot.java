@@ -0,0 +1,165 @@
+package model.game_building;
+
+import java.awt.*;
+
+import static model.game_building.GameConstants.*;
+
+/**
+ * An immutable view of the configuration of a game, with the values derived from it computed once. The code that
+ * runs every tick or every frame reads its configuration from a snapshot, which needs no locking and can be shared
+ * by the game threads and the drawing thread. A new snapshot is made whenever the configuration bundle changes,
+ * see {@link Configuration#getSnapshot()}.
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * the view of a configuration without a bundle, with the same values the configuration returns in that case.
+     */
+    public static final ConfigSnapshot EMPTY = new ConfigSnapshot(null);
+
+    private final double unitL;
+    private final int difficulty;
+    private final int dropRate;
+    private final boolean linearAlpha, linearBeta, spinningAlpha, spinningBeta;
+    private final int gameHeight;
+    private final int gameWidth;
+    private final int gamePanelWidth;
+    private final int statisticsPanelWidth;
+    private final double shooterSpeed;
+    private final double straightPatternSpeed;
+    private final double atomSpeed;
+    private final double zigZagPatternSpeed;
+    private final String theme;
+    private final boolean discoTheme;
+    private final double baseHeight;
+
+    private ConfigSnapshot(ConfigBundle bundle) {
+        boolean set = bundle != null;
+        unitL = set ? bundle.getL() : -1;
+        difficulty = set ? bundle.getDifficulty() : -1;
+        dropRate = set ? dropRateOf(difficulty) : -1;
+        linearAlpha = set && bundle.isLinearAlpha();
+        linearBeta = set && bundle.isLinearBeta();
+        spinningAlpha = set && bundle.isSpinningAlpha();
+        spinningBeta = set && bundle.isSpinningBeta();
+        gameHeight = (int) (10 * unitL);
+        gameWidth = (int) (gameHeight * GAME_SIZE_RATIO);
+        gamePanelWidth = (int) (gameWidth * GAME_PANEL_WIDTH_RATIO);
+        statisticsPanelWidth = (int) (gameWidth * STATISTICS_PANEL_WIDTH_RATIO);
+        shooterSpeed = unitL / (double) FPS;
+        straightPatternSpeed = unitL / (double) FPS;
+        atomSpeed = 3 * unitL / (double) FPS;
+        zigZagPatternSpeed = unitL / (double) FPS;
+        theme = set ? bundle.getTheme() : null;
+        discoTheme = theme != null && theme.equalsIgnoreCase(DISCO);
+        baseHeight = discoTheme ? unitL * SHOOTER_HEIGHT : 0.0;
+    }
+
+    /**
+     * @param bundle the configuration bundle, or null if it is not set yet
+     * @return the view of the bundle
+     */
+    public static ConfigSnapshot of(ConfigBundle bundle) {
+        return bundle == null ? EMPTY : new ConfigSnapshot(bundle);
+    }
+
+    private static int dropRateOf(int difficulty) {// TODO: modify when difficulty is converted to enum
+        switch (difficulty) {
+            case 0:
+                return EASY_MODE_GAME_DROP_RATE;
+            case 1:
+                return MEDIUM_MODE_GAME_DROP_RATE;
+            case 2:
+                return HARD_MODE_GAME_DROP_RATE;
+            default:
+                return 1000;
+        }
+    }
+
+    public double getUnitL() {
+        return unitL;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public int getDropRate() {
+        return dropRate;
+    }
+
+    public boolean isLinearAlpha() {
+        return linearAlpha;
+    }
+
+    public boolean isLinearBeta() {
+        return linearBeta;
+    }
+
+    public boolean isSpinningAlpha() {
+        return spinningAlpha;
+    }
+
+    public boolean isSpinningBeta() {
+        return spinningBeta;
+    }
+
+    public int getGameHeight() {
+        return gameHeight;
+    }
+
+    public int getGameWidth() {
+        return gameWidth;
+    }
+
+    public int getGamePanelWidth() {
+        return gamePanelWidth;
+    }
+
+    public int getGamePanelHeight() {
+        return gameHeight;
+    }
+
+    /**
+     * @return a new dimension object, the hot code reads {@link #getGamePanelWidth()} and {@link #getGamePanelHeight()}
+     */
+    public Dimension getGamePanelDimensions() {
+        return new Dimension(gamePanelWidth, gameHeight);
+    }
+
+    public Dimension getStatisticsPanelDimensions() {
+        return new Dimension(statisticsPanelWidth, gameHeight);
+    }
+
+    public Dimension getRunningWindowDimension() {
+        return new Dimension(gameWidth + PANEL_SEPARATOR_WIDTH, gameHeight);
+    }
+
+    public double getShooterSpeed() {
+        return shooterSpeed;
+    }
+
+    public double getStraightPatternSpeed() {
+        return straightPatternSpeed;
+    }
+
+    public double getAtomSpeed() {
+        return atomSpeed;
+    }
+
+    public double getZigZagPatternSpeed() {
+        return zigZagPatternSpeed;
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public boolean isDiscoTheme() {
+        return discoTheme;
+    }
+
+    public double getBaseHeight() {
+        return baseHeight;
+    }
+}
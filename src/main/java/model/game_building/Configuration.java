@@ -14,8 +14,10 @@ import static model.game_building.GameConstants.*;
 
 public class Configuration {
 
-    private static Configuration instance;
+    // volatile so that the instance can be read without the lock once it is created, and replaced in one write
+    private static volatile Configuration instance;
     private ConfigBundle configBundle;
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
     private static Logger logger;
 
     // Difficulty is represented by  0 1 or 2 representing easy, medium, or difficult.
@@ -31,6 +33,7 @@ public class Configuration {
 
         try {
             configBundle = IOHandler.readFromYaml("temp", "configurations", ConfigBundle.class);
+            snapshot = ConfigSnapshot.of(configBundle);
         } catch (IOException exception) {
             logger.error("[Configuration] {FATAL}: Could not load game configurations.", exception);
             exception.printStackTrace();
@@ -45,6 +48,7 @@ public class Configuration {
         BasicConfigurator.configure();
         logger = Logger.getLogger(Configuration.class.getName());
         configBundle = bundle;
+        snapshot = ConfigSnapshot.of(bundle);
     }
 
     /**
@@ -52,21 +56,48 @@ public class Configuration {
      *
      * @return instance
      */
-    public synchronized static Configuration getInstance() {
-        if (instance == null) {
-            instance = new Configuration(); //makeInstance
+    public static Configuration getInstance() {
+        Configuration configuration = instance;
+        if (configuration == null) {
+            synchronized (Configuration.class) {
+                configuration = instance;
+                if (configuration == null) {
+                    configuration = new Configuration(); //makeInstance
+                    instance = configuration;
+                }
+            }
         }
-        return instance;
+        return configuration;
     }
 
     /**
      * Sets the current configBundle to a new one.
      * This method is used when we load a saved game to set a new bundle.
+     * The new configuration and its snapshot replace the old ones at once.
      *
      * @param newBundle the bundle that holds the configs of the loaded game
      */
     public void reset(ConfigBundle newBundle) {
-        instance = new Configuration(newBundle);
+        Configuration configuration = new Configuration(newBundle);
+        synchronized (Configuration.class) {
+            instance = configuration;
+        }
+    }
+
+    /**
+     * @return the current configuration as an immutable view. reading it takes no lock, the code that runs every
+     * tick or frame should read the configuration from here.
+     */
+    public static ConfigSnapshot snapshot() {
+        return getInstance().snapshot;
+    }
+
+    /**
+     * @return the immutable view of this configuration
+     */
+    @JsonIgnore
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
 
@@ -83,6 +114,7 @@ public class Configuration {
     public synchronized void setConfig(ConfigBundle configBundle) {
         if (this.configBundle == null) {
             this.configBundle = configBundle;
+            this.snapshot = ConfigSnapshot.of(configBundle);
         } else {
             // The logger is initialised in the constructor so we check if the instance was created so
             // we can use the logger instance
@@ -194,20 +226,8 @@ public class Configuration {
     }
 
     @JsonIgnore
-    public int getDropRate() {// TODO: modify when difficulty is converted to enum
-        if (!isConfigBundleSet())
-            return -1;
-        int difficulty = this.getDifficulty();
-        switch (difficulty) {
-            case 0:
-                return EASY_MODE_GAME_DROP_RATE;
-            case 1:
-                return MEDIUM_MODE_GAME_DROP_RATE;
-            case 2:
-                return HARD_MODE_GAME_DROP_RATE;
-            default:
-                return 1000;
-        }
+    public int getDropRate() {
+        return isConfigBundleSet() ? snapshot.getDropRate() : -1;
     }
 
     @JsonIgnore
@@ -242,27 +262,27 @@ public class Configuration {
 
     @JsonIgnore
     public int getGameHeight() {
-        return (int) (10 * getUnitL());
+        return snapshot.getGameHeight();
     }
 
     @JsonIgnore
     public int getGameWidth() {
-        return (int) (getGameHeight() * GAME_SIZE_RATIO);
+        return snapshot.getGameWidth();
     }
 
     @JsonIgnore
     public Dimension getGamePanelDimensions() {
-        return new Dimension((int) (getGameWidth() * GAME_PANEL_WIDTH_RATIO), getGameHeight());
+        return snapshot.getGamePanelDimensions();
     }
 
     @JsonIgnore
     public Dimension getStatisticsPanelDimensions() {
-        return new Dimension((int) (getGameWidth() * STATISTICS_PANEL_WIDTH_RATIO), getGameHeight());
+        return snapshot.getStatisticsPanelDimensions();
     }
 
     @JsonIgnore
     public Dimension getRunningWindowDimension() {
-        return new Dimension(getGameWidth() + PANEL_SEPARATOR_WIDTH, getGameHeight());
+        return snapshot.getRunningWindowDimension();
     }
 
     /**
@@ -281,22 +301,22 @@ public class Configuration {
 
     @JsonIgnore
     public double getShooterSpeed() {
-        return getUnitL() / (double) FPS; //TODO: ask about the speed.
+        return snapshot.getShooterSpeed(); //TODO: ask about the speed.
     }
 
     @JsonIgnore
     public double getStraightPatternSpeed() {
-        return getUnitL() / (double) FPS;
+        return snapshot.getStraightPatternSpeed();
     }
 
     @JsonIgnore
     public double getAtomSpeed() {
-        return 3 * getUnitL() / (double) FPS;
+        return snapshot.getAtomSpeed();
     }
 
     @JsonIgnore
     public double getZigZagPatternSpeed() {
-        return getUnitL() / (double) FPS;
+        return snapshot.getZigZagPatternSpeed();
     }
 
     @JsonIgnore
@@ -306,14 +326,11 @@ public class Configuration {
 
     @JsonIgnore
     public boolean isDiscoTheme() {
-        return configBundle.getTheme().equalsIgnoreCase(GameConstants.DISCO);
+        return snapshot.isDiscoTheme();
     }
 
     @JsonIgnore
     public double getBaseHeight(){
-        if (isDiscoTheme())
-            return getUnitL() * GameConstants.SHOOTER_HEIGHT;
-        else
-            return 0.0;
+        return snapshot.getBaseHeight();
     }
 }
@@ -31,7 +31,8 @@ public final class GameConstants {
     public static final int MEDIUM_MODE_GAME_DROP_RATE = 2000;
     public static final int HARD_MODE_GAME_DROP_RATE = 1000;
 
-    public static final int GAME_THREAD_DELAY = 7; // TODO: Check if valid
+    public static final int GAME_THREAD_DELAY = 7; // length of a single simulation tick in milliseconds
+    public static final int MAX_CATCH_UP_TICKS = 5; // max ticks simulated back to back before the scheduler drops the lag
     public static final int DEFAULT_SHOOTER_DELAY = 250;
 
     // Objects Dimensions.
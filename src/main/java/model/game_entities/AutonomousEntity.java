@@ -52,6 +52,13 @@ public abstract class AutonomousEntity extends Entity {
      */
     public void move() {
         setCoordinates(this.getPathPattern().nextPosition());
+        afterMove();
+    }
+
+    /**
+     * called after every step of the entity, also when the {@link model.game_physics.MovementKernel} moved it.
+     */
+    public void afterMove() {
     }
 
     public void reachBoundary(CollisionRunnable collisionRunnable) {
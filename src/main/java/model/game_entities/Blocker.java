@@ -1,5 +1,6 @@
 package model.game_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import model.game_building.Configuration;
 import model.game_building.GameBundle;
@@ -66,19 +67,28 @@ public class Blocker extends AutonomousEntity {
 
     @Override
     public boolean isCollidedWith(Entity entity) {
-        return this.getExplodingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getExplodingHitbox().collidesWith(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
+    }
+
+    /**
+     * a blocker collides through its exploding hitbox, which is larger than the hitbox it is hit with.
+     */
+    @JsonIgnore
+    @Override
+    public double getBoundingRadius() {
+        return Math.max(super.getBoundingRadius(), getExplodingHitbox().getBoundingRadius());
     }
 
     public boolean isCollidedWithOriginalHitbox(Entity entity) {
-        return this.getHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getHitbox().collidesWith(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     public boolean isCollidedWithBlockingHitbox(Entity entity) {
-        return this.getBlockingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getBlockingHitbox().collidesWith(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     public boolean isCollidedWithExplodingHitbox(Entity entity) {
-        return this.getExplodingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getExplodingHitbox().collidesWith(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     /**
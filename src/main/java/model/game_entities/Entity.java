@@ -1,5 +1,6 @@
 package model.game_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import model.game_entities.enums.SuperType;
 import model.game_physics.hitbox.Hitbox;
 import model.game_running.Collidable;
@@ -7,12 +8,16 @@ import org.apache.log4j.Logger;
 import services.utils.Coordinates;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Entity: a Superclass for all the game objects
  */
 
 public abstract class Entity implements Collidable {
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id = nextId.getAndIncrement();
     protected SuperType superType;
     private Coordinates coordinates;
     private Hitbox hitbox;
@@ -26,6 +31,14 @@ public abstract class Entity implements Collidable {
     public Entity() {
     }
 
+    /**
+     * @return a number that identifies the entity while the application runs. it is not saved with the entity.
+     */
+    @JsonIgnore
+    public int getId() {
+        return id;
+    }
+
     public Coordinates getCoordinates() {
         return coordinates;
     }
@@ -44,7 +57,7 @@ public abstract class Entity implements Collidable {
     }
 
     public boolean isCollidedWith(Entity entity) {
-        return this.getHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getHitbox().collidesWith(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     public abstract void move();
@@ -57,4 +70,12 @@ public abstract class Entity implements Collidable {
         return this.getHitbox().getBoundaryPoints(getCoordinates());
     }
 
+    /**
+     * @return the distance from the entity coordinates beyond which the entity can not collide with anything
+     */
+    @JsonIgnore
+    public double getBoundingRadius() {
+        return this.getHitbox().getBoundingRadius();
+    }
+
 }
@@ -52,8 +52,7 @@ public class Molecule extends AutonomousEntity {
     }
 
     @Override
-    public void move() {
-        super.move();
+    public void afterMove() {
         if (isSpinnable())
             spin();
     }
@@ -1,12 +1,14 @@
 package model.game_entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import model.game_building.ConfigSnapshot;
 import model.game_building.Configuration;
 import model.game_building.GameConstants;
 import model.game_entities.enums.EntityType;
 import model.game_entities.enums.SuperType;
 import model.game_entities.shields.ShieldTuple;
 import model.game_physics.hitbox.HitboxFactory;
+import model.game_physics.hitbox.RotationTable;
 import model.game_physics.path_patterns.PathPatternFactory;
 import model.game_running.CollisionVisitor;
 import model.game_running.RunningMode;
@@ -15,8 +17,8 @@ import model.game_running.listeners.ShooterEventListener;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
+import services.utils.MathKernel;
 import services.utils.MathUtils;
-import services.utils.Vector;
 
 import static model.game_building.GameConstants.DEFAULT_ROTATION_STEP;
 
@@ -26,8 +28,6 @@ public class Shooter extends Entity {
     private ShieldHandler shieldHandler; //TODO: CHECK THIS
     private int movementState;
 
-    Configuration config = Configuration.getInstance();
-
     // TODO move to game configuration
     public static Logger logger = Logger.getLogger(Shooter.class.getName());
 
@@ -38,6 +38,7 @@ public class Shooter extends Entity {
         // TODO 1: get initial coords from the game configuration
         // TODO 2: set this in super instead
         // sets the initial coordinates
+        ConfigSnapshot config = Configuration.snapshot();
         double baseHeight = config.getBaseHeight();
         setCoordinates(new Coordinates(
                 config.getGameWidth() / 2.0,
@@ -205,7 +206,8 @@ public class Shooter extends Entity {
 
     public boolean rotate(int direction) {
         int rotationDirection = direction == GameConstants.SHOOTER_ROTATION_LEFT ? -1 : 1;
-        if (!checkLegalMovement(this.getCoordinates(), this.getAngle() + DEFAULT_ROTATION_STEP * rotationDirection))
+        if (!checkLegalMovement(Configuration.snapshot(), getCoordinates().getX(), getCoordinates().getY(),
+                this.getAngle() + DEFAULT_ROTATION_STEP * rotationDirection))
             return false;
         getHitbox().rotate(DEFAULT_ROTATION_STEP * rotationDirection);
         return true;
@@ -222,63 +224,56 @@ public class Shooter extends Entity {
             return;
         }
         int direction = movementState == GameConstants.SHOOTER_MOVEMENT_RIGHT ? 1 : -1;
-        Coordinates newCoords = new Coordinates(getCoordinates().getX() + direction * config.getShooterSpeed(), getCoordinates().getY());
-        if (!checkLegalMovement(newCoords, this.getAngle())) {
+        ConfigSnapshot config = Configuration.snapshot();
+        double newX = getCoordinates().getX() + direction * config.getShooterSpeed();
+        if (!checkLegalMovement(config, newX, getCoordinates().getY(), this.getAngle())) {
             logger.info("[Shooter] shooter cannot move to the new coordinates" + this.getCoordinates());
             return;
         }
         shooterListener.onMoved();
-        this.setCoordinates(newCoords);
+        this.setCoordinates(new Coordinates(newX, getCoordinates().getY()));
         logger.debug("[Shooter] shooter moved to a new coordinates" + this.getCoordinates());
     }
 
     /**
      * Check if the shooter config.getShooterSpeed() is within the game view
      *
-     * @param coordinates to be checked if inside the game view
-     * @param angle       of the shooter
+     * @param config the configuration of the game
+     * @param x      the x coordinate to be checked if inside the game view
+     * @param y      the y coordinate of the shooter
+     * @param angle  of the shooter
      * @return true if the movement is legal
      */
-    private boolean checkLegalMovement(Coordinates coordinates, double angle) {
+    private boolean checkLegalMovement(ConfigSnapshot config, double x, double y, double angle) {
         double gunWidth = config.getUnitL() * GameConstants.SHOOTER_WIDTH;
-        if (coordinates.getX() + gunWidth / 2 > config.getGamePanelDimensions().getWidth())
+        if (x + gunWidth / 2 > config.getGamePanelWidth())
             return false;
-        else if (coordinates.getX() - gunWidth / 2 < 0)
+        else if (x - gunWidth / 2 < 0)
             return false;
-        return checkLegalAngle(coordinates, angle);
+        return checkLegalAngle(config, x, y, angle);
     }
 
     /**
      * Check if the shooter rotation is within the game view
      *
-     * @param coordinates to be checked if inside the game view
-     * @param angle       of the shooter
+     * @param config the configuration of the game
+     * @param x      the x coordinate of the shooter
+     * @param y      the y coordinate of the shooter
+     * @param angle  of the shooter
      * @return true of rotating the shooter is legal
      */
-    private boolean checkLegalAngle(Coordinates coordinates, double angle) {
+    private boolean checkLegalAngle(ConfigSnapshot config, double x, double y, double angle) {
+        if (angle > 80 || angle < -80)
+            return false;
         double gunWidth = config.getUnitL() * GameConstants.SHOOTER_WIDTH;
         double gunHeight = config.getUnitL() * GameConstants.SHOOTER_HEIGHT;
 
         // assume the left side if the shooter is in the left half of the screen, and right otherwise
-        Vector rotatedShooter;
-        if (coordinates.getX() < Configuration.getInstance().getGameWidth() / 2.0) {
-            rotatedShooter = new Vector(
-                    coordinates.getX() - gunWidth / 2,
-                    coordinates.getY(),
-                    coordinates.getX() - gunWidth / 2,
-                    coordinates.getY() - gunHeight / 2.0);
-        } else {
-            rotatedShooter = new Vector(
-                    coordinates.getX() + gunWidth / 2,
-                    coordinates.getY(),
-                    coordinates.getX() + gunWidth / 2,
-                    coordinates.getY() - gunHeight / 2.0);
-        }
-        rotatedShooter = rotatedShooter.rotateVector(angle);
-        return !(angle > 80) &&
-                !(angle < -80) &&
-                rotatedShooter.getPositionCoordinate().getX() >= 0 &&
-                rotatedShooter.getPositionCoordinate().getX() <= config.getGamePanelDimensions().width;
+        double sideX = x < config.getGameWidth() / 2.0 ? x - gunWidth / 2 : x + gunWidth / 2;
+        // the shooter turns by whole steps, so the rotation is in the table
+        double rotatedX = MathKernel.rotateX(RotationTable.GAME.cosOf(angle), RotationTable.GAME.sinOf(angle),
+                sideX, y, sideX, y - gunHeight / 2.0);
+        return rotatedX >= 0 && rotatedX <= config.getGamePanelWidth();
     }
 
     /**
@@ -314,7 +309,7 @@ public class Shooter extends Entity {
     @JsonIgnore
     public boolean isAtomShielded() {
         if (projectileIsAtom())
-            return shieldHandler.getTempShields().isNotEmpty();
+            return shieldHandler.hasTempShields();
         return false;
     }
 
@@ -0,0 +1,167 @@
+package model.game_physics;
+
+import model.game_entities.AutonomousEntity;
+import model.game_physics.path_patterns.PathPattern;
+import services.utils.Coordinates;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves the autonomous entities in batches. The position and the velocity of every entity whose pattern moves in
+ * constant steps ({@link PathPattern#constantSteps()}) are kept in parallel arrays and advanced together in one
+ * loop over primitives, which the JIT can unroll and vectorize. The new positions are written into coordinates
+ * the kernel owns for each entity, so moving does not allocate.
+ * Entities with other patterns, and the step in which a pattern switches its segment or phase, are moved by
+ * {@link AutonomousEntity#move()}. The kernel is not thread safe, only the game loop uses it.
+ */
+public class MovementKernel {
+
+    private List<AutonomousEntity> boundEntities = Collections.emptyList();
+    private int size;
+    private AutonomousEntity[] entities = new AutonomousEntity[0];
+    private PathPattern[] patterns = new PathPattern[0];
+    private Coordinates[] coordinates = new Coordinates[0];
+    private int[] changeCounts = new int[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] xv = new double[0];
+    private double[] yv = new double[0];
+    // the constant steps left for each entity, 0 if its next step is taken by move()
+    private long[] steps = new long[0];
+
+    /**
+     * moves every entity one step.
+     *
+     * @param entities the entities to move. the arrays are built again when a different list is given, the state
+     *                 of the entities that stay in the list is kept.
+     */
+    public void move(List<AutonomousEntity> entities) {
+        if (entities != boundEntities)
+            bind(entities);
+
+        // advance every batched entity, assuming nothing changed since the last step
+        for (int i = 0; i < size; i++) {
+            x[i] += xv[i];
+            y[i] += yv[i];
+        }
+
+        for (int i = 0; i < size; i++) {
+            AutonomousEntity entity = this.entities[i];
+            PathPattern pattern = entity.getPathPattern();
+            if (steps[i] == 0 || pattern != patterns[i] || pattern.changeCount() != changeCounts[i] ||
+                    entity.getCoordinates() != coordinates[i]) {
+                // the entity was reflected, moved by someone else or its constant steps are over
+                load(i, entity, pattern);
+                if (steps[i] == 0) {
+                    entity.move();
+                    continue;
+                }
+                x[i] += xv[i];
+                y[i] += yv[i];
+            }
+            steps[i]--;
+            coordinates[i].setX(x[i]);
+            coordinates[i].setY(y[i]);
+            pattern.takeConstantStep();
+            entity.afterMove();
+        }
+    }
+
+    /**
+     * reads the constant steps of an entity, and gives it coordinates owned by the kernel.
+     */
+    private void load(int i, AutonomousEntity entity, PathPattern pattern) {
+        patterns[i] = pattern;
+        changeCounts[i] = pattern.changeCount();
+        steps[i] = pattern.constantSteps();
+        if (steps[i] == 0) {
+            coordinates[i] = null;
+            return;
+        }
+        Coordinates current = entity.getCoordinates();
+        if (current != coordinates[i]) {
+            // the entity was moved by someone else, or its coordinates may be shared with another object
+            coordinates[i] = new Coordinates(current.getX(), current.getY());
+            entity.setCoordinates(coordinates[i]);
+        }
+        x[i] = current.getX();
+        y[i] = current.getY();
+        xv[i] = pattern.constantXv();
+        yv[i] = pattern.constantYv();
+    }
+
+    /**
+     * the entities keep their order between two snapshots, removed entities are dropped and new entities are
+     * appended. so the slots of the remaining entities are found in one pass and moved forward in place.
+     */
+    private void bind(List<AutonomousEntity> list) {
+        int newSize = list.size();
+        ensureCapacity(newSize);
+        int old = 0;
+        boolean matching = true;
+        for (int i = 0; i < newSize; i++) {
+            AutonomousEntity entity = list.get(i);
+            if (matching) {
+                while (old < size && entities[old] != entity)
+                    old++;
+                if (old < size) {
+                    moveSlot(old++, i);
+                    continue;
+                }
+                matching = false;
+            }
+            entities[i] = entity;
+            patterns[i] = null;
+            coordinates[i] = null;
+            steps[i] = 0;
+        }
+        Arrays.fill(entities, newSize, Math.max(newSize, size), null);
+        Arrays.fill(patterns, newSize, Math.max(newSize, size), null);
+        Arrays.fill(coordinates, newSize, Math.max(newSize, size), null);
+        size = newSize;
+        boundEntities = list;
+    }
+
+    private void moveSlot(int from, int to) {
+        if (from == to)
+            return;
+        entities[to] = entities[from];
+        patterns[to] = patterns[from];
+        coordinates[to] = coordinates[from];
+        changeCounts[to] = changeCounts[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        xv[to] = xv[from];
+        yv[to] = yv[from];
+        steps[to] = steps[from];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entities.length)
+            return;
+        int length = Math.max(capacity, entities.length * 2);
+        entities = Arrays.copyOf(entities, length);
+        patterns = Arrays.copyOf(patterns, length);
+        coordinates = Arrays.copyOf(coordinates, length);
+        changeCounts = Arrays.copyOf(changeCounts, length);
+        x = Arrays.copyOf(x, length);
+        y = Arrays.copyOf(y, length);
+        xv = Arrays.copyOf(xv, length);
+        yv = Arrays.copyOf(yv, length);
+        steps = Arrays.copyOf(steps, length);
+    }
+
+    /**
+     * @return the number of entities moved by the batch loop in the last call, for tests and benchmarks
+     */
+    public int getBatchedCount() {
+        int batched = 0;
+        for (int i = 0; i < size; i++) {
+            if (coordinates[i] != null)
+                batched++;
+        }
+        return batched;
+    }
+}
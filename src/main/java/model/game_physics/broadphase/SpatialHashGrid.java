@@ -0,0 +1,178 @@
+package model.game_physics.broadphase;
+
+import model.game_entities.Entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A uniform grid over the game panel used to find the pairs of entities that might collide.
+ * Every entity is inserted in all the cells its bounding box covers. Two entities are only reported if their
+ * bounding boxes overlap, and only from the cell that holds the top-left corner of that overlap, so every
+ * candidate pair is reported exactly once.
+ * Entities outside the panel are clamped to the border cells.
+ * The grid is rebuilt from scratch with a counting sort, so a rebuild costs O(n + cells) and allocates nothing
+ * once the internal arrays have grown to the size of the population.
+ *
+ * @param <T> the type of the entities in the grid
+ */
+public class SpatialHashGrid<T extends Entity> {
+
+    // added to the bounding radius to absorb the rounding of the rotated boundary points
+    private static final double BOUNDS_MARGIN = 1.0;
+
+    private double cellSize;
+    private int columns;
+    private int rows;
+
+    private int[] cellStart = new int[0]; // index of the first entry of each cell in cellEntries, plus an end marker
+    private int[] cellEntries = new int[0]; // entity indices sorted by cell
+    private int[] cursor = new int[0];
+
+    // bounding box of each entity, and the range of cells it covers
+    private double[] minX = new double[0], minY = new double[0], maxX = new double[0], maxY = new double[0];
+    private int[] firstColumn = new int[0], lastColumn = new int[0], firstRow = new int[0], lastRow = new int[0];
+
+    private List<? extends T> entities;
+    private int size;
+
+    /**
+     * @param width    the width of the covered area
+     * @param height   the height of the covered area
+     * @param cellSize the side of a cell. should be at least the diameter of the common entities.
+     */
+    public SpatialHashGrid(double width, double height, double cellSize) {
+        resize(width, height, cellSize);
+    }
+
+    /**
+     * changes the covered area of the grid. does nothing if the grid already has these dimensions.
+     */
+    public void resize(double width, double height, double cellSize) {
+        if (cellSize <= 0)
+            throw new IllegalArgumentException("cell size must be positive: " + cellSize);
+        int newColumns = Math.max(1, (int) Math.ceil(width / cellSize));
+        int newRows = Math.max(1, (int) Math.ceil(height / cellSize));
+        if (cellSize == this.cellSize && newColumns == columns && newRows == rows)
+            return;
+        this.cellSize = cellSize;
+        this.columns = newColumns;
+        this.rows = newRows;
+        cellStart = new int[columns * rows + 1];
+        cursor = new int[columns * rows];
+    }
+
+    /**
+     * sorts the given entities into the grid. the list is read during the rebuild and by the pair queries that
+     * follow, so it should not change in between.
+     */
+    public void rebuild(List<? extends T> entities) {
+        this.entities = entities;
+        this.size = entities.size();
+        ensureCapacity(size);
+        Arrays.fill(cellStart, 0);
+
+        // compute the bounds of every entity and count the entries per cell
+        int entryCount = 0;
+        for (int i = 0; i < size; i++) {
+            Entity entity = entities.get(i);
+            double radius = entity.getBoundingRadius() + BOUNDS_MARGIN;
+            double x = entity.getCoordinates().getX();
+            double y = entity.getCoordinates().getY();
+            minX[i] = x - radius;
+            maxX[i] = x + radius;
+            minY[i] = y - radius;
+            maxY[i] = y + radius;
+            firstColumn[i] = column(minX[i]);
+            lastColumn[i] = column(maxX[i]);
+            firstRow[i] = row(minY[i]);
+            lastRow[i] = row(maxY[i]);
+            for (int r = firstRow[i]; r <= lastRow[i]; r++)
+                for (int c = firstColumn[i]; c <= lastColumn[i]; c++) {
+                    cellStart[r * columns + c + 1]++;
+                    entryCount++;
+                }
+        }
+
+        // prefix sum, then place the entries. entities are visited in order, so every cell stays sorted by index
+        for (int cell = 0; cell < columns * rows; cell++)
+            cellStart[cell + 1] += cellStart[cell];
+        if (cellEntries.length < entryCount)
+            cellEntries = new int[Math.max(entryCount, cellEntries.length * 2)];
+        System.arraycopy(cellStart, 0, cursor, 0, columns * rows);
+        for (int i = 0; i < size; i++)
+            for (int r = firstRow[i]; r <= lastRow[i]; r++)
+                for (int c = firstColumn[i]; c <= lastColumn[i]; c++)
+                    cellEntries[cursor[r * columns + c]++] = i;
+    }
+
+    /**
+     * reports every pair of entities whose bounding boxes overlap, exactly once, with the entity that comes first
+     * in the rebuilt list as the first argument.
+     *
+     * @param consumer receives the candidate pairs
+     */
+    public void forEachCandidatePair(BiConsumer<? super T, ? super T> consumer) {
+        for (int cell = 0; cell < columns * rows; cell++) {
+            int start = cellStart[cell];
+            int end = cellStart[cell + 1];
+            int cellColumn = cell % columns;
+            int cellRow = cell / columns;
+            for (int a = start; a < end; a++) {
+                int i = cellEntries[a];
+                for (int b = a + 1; b < end; b++) {
+                    int j = cellEntries[b];
+                    if (!overlap(i, j))
+                        continue;
+                    // only the cell with the top left corner of the overlap reports the pair
+                    if (column(Math.max(minX[i], minX[j])) != cellColumn || row(Math.max(minY[i], minY[j])) != cellRow)
+                        continue;
+                    consumer.accept(entities.get(i), entities.get(j));
+                }
+            }
+        }
+    }
+
+    private boolean overlap(int i, int j) {
+        return minX[i] <= maxX[j] && minX[j] <= maxX[i] && minY[i] <= maxY[j] && minY[j] <= maxY[i];
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int count) {
+        return index < 0 ? 0 : (index >= count ? count - 1 : index);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (minX.length >= capacity)
+            return;
+        int newCapacity = Math.max(capacity, minX.length * 2);
+        minX = new double[newCapacity];
+        minY = new double[newCapacity];
+        maxX = new double[newCapacity];
+        maxY = new double[newCapacity];
+        firstColumn = new int[newCapacity];
+        lastColumn = new int[newCapacity];
+        firstRow = new int[newCapacity];
+        lastRow = new int[newCapacity];
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+}
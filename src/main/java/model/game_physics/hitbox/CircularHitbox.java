@@ -2,7 +2,9 @@ package model.game_physics.hitbox;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_physics.hitbox.RotationTable.Rotation;
 import services.utils.Coordinates;
+import services.utils.MathKernel;
 import services.utils.MathUtils;
 import services.utils.Vector;
 
@@ -30,9 +32,34 @@ public class CircularHitbox extends Hitbox {
     }
 
     @Override
-    public boolean isInside(Coordinates entityCoords, Coordinates checkCoords) {
-        checkCoords = MathUtils.applyRotation(-getRotationDegree(), entityCoords, checkCoords);
-        return MathUtils.isWithinCircle(entityCoords, this.radius, checkCoords);
+    public boolean isInside(Coordinates entityCoords, double x, double y) {
+        // rotate the point back by the rotation of the hitbox
+        Rotation rotation = rotation();
+        double cos = rotation.cos;
+        double sin = -rotation.sin;
+        double cx = entityCoords.getX();
+        double cy = entityCoords.getY();
+        return MathKernel.isWithinCircle(cx, cy, this.radius,
+                MathKernel.rotateX(cos, sin, cx, cy, x, y), MathKernel.rotateY(cos, sin, cx, cy, x, y));
+    }
+
+    @Override
+    public boolean intersects(Coordinates entityCoords, Hitbox other, Coordinates otherCoords) {
+        return other.intersectsCircle(otherCoords, this, entityCoords);
+    }
+
+    @Override
+    boolean intersectsCircle(Coordinates entityCoords, CircularHitbox circle, Coordinates circleCoords) {
+        return HitboxIntersection.circleCircle(entityCoords.getX(), entityCoords.getY(), radius,
+                circleCoords.getX(), circleCoords.getY(), circle.getRadius());
+    }
+
+    @Override
+    boolean intersectsRectangle(Coordinates entityCoords, RectangularHitbox rectangle, Coordinates rectangleCoords) {
+        Rotation rotation = rectangle.rotation();
+        return HitboxIntersection.circleRectangle(entityCoords.getX(), entityCoords.getY(), radius,
+                rectangleCoords.getX(), rectangleCoords.getY(), rectangle.getWidth() / 2, rectangle.getHeight() / 2,
+                rotation.cos, rotation.sin);
     }
 
     @Override
@@ -41,6 +68,17 @@ public class CircularHitbox extends Hitbox {
         return MathUtils.coordinatesAroundCircle(arcVector, NUMBER_OF_POINTS);
     }
 
+    @JsonIgnore
+    @Override
+    public int getBoundaryPointCount() {
+        return MathKernel.circleBoundaryCount(NUMBER_OF_POINTS);
+    }
+
+    @Override
+    public void getBoundaryPoints(Coordinates entityCoords, double[] out) {
+        MathKernel.circleBoundary(entityCoords.getX(), entityCoords.getY(), this.radius, NUMBER_OF_POINTS, out);
+    }
+
     @JsonIgnore
     @Override
     public double getWidth() {
@@ -53,6 +91,12 @@ public class CircularHitbox extends Hitbox {
         return this.radius * 2;
     }
 
+    @JsonIgnore
+    @Override
+    public double getBoundingRadius() {
+        return this.radius;
+    }
+
     @Override
     public String toString() {
         return "CircularHitbox: radius = " + this.radius + ", angle = " + getRotationDegree();
@@ -1,7 +1,9 @@
 package model.game_physics.hitbox;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import model.game_physics.hitbox.RotationTable.Rotation;
 import services.utils.Coordinates;
 import java.util.ArrayList;
 
@@ -15,8 +17,25 @@ import java.util.ArrayList;
  */
 public abstract class Hitbox {
 
-    protected double rotationDegree = 0;
+    // the shooter is rotated by the UI thread while the game loop checks its collisions
+    protected volatile double rotationDegree = 0;
     protected final int NUMBER_OF_POINTS = 8;
+    // the trigonometry of the rotation, only looked up again when the rotation changes
+    private volatile Rotation rotation = RotationTable.GAME.rotationOf(0);
+
+    // the boundary points of the sampled collisions, one buffer for each collision thread
+    private static final ThreadLocal<double[]> BOUNDARY_BUFFER = ThreadLocal.withInitial(() -> new double[0]);
+
+    // when set, collisions are found by sampling points on the boundary of the target instead of the exact tests.
+    private static volatile boolean sampledCollisions = false;
+
+    public static void setSampledCollisions(boolean sampled) {
+        sampledCollisions = sampled;
+    }
+
+    public static boolean isSampledCollisions() {
+        return sampledCollisions;
+    }
 
     /**
      * Rotates the Hitbox in the specified direction
@@ -26,6 +45,24 @@ public abstract class Hitbox {
         this.rotationDegree += angle;
     }
 
+    /**
+     * @return the rotation with its cosine and sine, from the {@link RotationTable} when the rotation is one of its
+     * orientations. the three always belong to the same angle, even while another thread rotates the hitbox.
+     */
+    Rotation rotation() {
+        Rotation current = rotation;
+        // the rotation may also be set by loading a saved game, so the cache is checked against its value
+        double degree = rotationDegree;
+        if (current.degree != degree) {
+            // past a full turn the angle differs from the one of its orientation, which is looked up again
+            Rotation turned = RotationTable.GAME.rotationOf(degree);
+            if (turned != current)
+                rotation = turned;
+            current = turned;
+        }
+        return current;
+    }
+
     public double getRotationDegree(){
         return this.rotationDegree;
     }
@@ -36,7 +73,18 @@ public abstract class Hitbox {
      * @param checkCoords a coordinates to be checked if inside the entity
      * @return true if coordinates is inside the Hitbox, otherwise returns false
      */
-    public abstract boolean isInside(Coordinates entityCoords, Coordinates checkCoords);
+    public boolean isInside(Coordinates entityCoords, Coordinates checkCoords) {
+        return isInside(entityCoords, checkCoords.getX(), checkCoords.getY());
+    }
+
+    /**
+     * checks if a point is inside the Hitbox, without allocating.
+     * @param entityCoords the center of the coordinate of the entity
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return true if the point is inside the Hitbox, otherwise returns false
+     */
+    public abstract boolean isInside(Coordinates entityCoords, double x, double y);
 
     /**
      * get a set of sample points on the boundary of the Hitbox.
@@ -45,9 +93,28 @@ public abstract class Hitbox {
      */
     public abstract ArrayList<Coordinates> getBoundaryPoints(Coordinates entityCoords);
 
+    /**
+     * @return the number of sample points on the boundary of the Hitbox.
+     */
+    @JsonIgnore
+    public abstract int getBoundaryPointCount();
+
+    /**
+     * writes the sample points on the boundary of the Hitbox as x, y pairs, in the order of {@link #getBoundaryPoints(Coordinates)}.
+     * @param entityCoords the center coordinates of the entity which represents the center of the hitbox
+     * @param out an array with room for 2 * getBoundaryPointCount() values
+     */
+    public abstract void getBoundaryPoints(Coordinates entityCoords, double[] out);
+
     public abstract double getWidth();
     public abstract double  getHeight();
 
+    /**
+     * @return the radius of the smallest circle around the hitbox center that contains the hitbox at any rotation
+     */
+    @JsonIgnore
+    public abstract double getBoundingRadius();
+
     /**
      * Checks if a Hitbox is collided with a another Hitbox.
      * @param entityCoords The owner object coordinates.
@@ -63,4 +130,60 @@ public abstract class Hitbox {
         return false;
     }
 
+    /**
+     * Checks if any of the given points is inside the Hitbox.
+     * @param entityCoords The owner object coordinates.
+     * @param points the x, y pairs of the points.
+     * @param count the number of points.
+     * @return True if a point is inside the Hitbox.
+     */
+    public boolean isInside(Coordinates entityCoords, double[] points, int count) {
+        for (int i = 0; i < count; i++) {
+            if (this.isInside(entityCoords, points[2 * i], points[2 * i + 1]))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a Hitbox is collided with another Hitbox.
+     * Uses the exact intersection test, or the boundary sampling if {@link #setSampledCollisions(boolean)} is set.
+     * @param entityCoords the owner object coordinates.
+     * @param other the target hitbox.
+     * @param otherCoords the target object coordinates.
+     * @return True if the owner Hitbox is collided with the target Hitbox.
+     */
+    public boolean collidesWith(Coordinates entityCoords, Hitbox other, Coordinates otherCoords) {
+        if (sampledCollisions) {
+            int count = other.getBoundaryPointCount();
+            double[] points = boundaryBuffer(count);
+            other.getBoundaryPoints(otherCoords, points);
+            return isInside(entityCoords, points, count);
+        }
+        return intersects(entityCoords, other, otherCoords);
+    }
+
+    private static double[] boundaryBuffer(int count) {
+        double[] buffer = BOUNDARY_BUFFER.get();
+        if (buffer.length < 2 * count) {
+            buffer = new double[2 * count];
+            BOUNDARY_BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Checks if the areas of two hitboxes overlap.
+     * @param entityCoords the owner object coordinates.
+     * @param other the target hitbox.
+     * @param otherCoords the target object coordinates.
+     * @return True if the hitboxes overlap or touch.
+     */
+    public abstract boolean intersects(Coordinates entityCoords, Hitbox other, Coordinates otherCoords);
+
+    // double dispatch for the exact intersection tests.
+    abstract boolean intersectsCircle(Coordinates entityCoords, CircularHitbox circle, Coordinates circleCoords);
+
+    abstract boolean intersectsRectangle(Coordinates entityCoords, RectangularHitbox rectangle, Coordinates rectangleCoords);
+
 }
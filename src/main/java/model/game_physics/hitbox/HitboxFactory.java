@@ -9,10 +9,8 @@ import model.game_building.GameConstants;
 public class HitboxFactory {
 
     private static HitboxFactory factory = new HitboxFactory();
-    private final Configuration config;
 
     private HitboxFactory(){
-        this.config = Configuration.getInstance();
     }
     public static HitboxFactory getInstance(){
         if(factory == null){
@@ -22,7 +20,7 @@ public class HitboxFactory {
     }
 
     public Hitbox getBlockerHitbox(){
-        return  new CircularHitbox(config.getUnitL() * GameConstants.BLOCKER_RADIUS);
+        return  new CircularHitbox(Configuration.getInstance().getUnitL() * GameConstants.BLOCKER_RADIUS);
     }
     public Hitbox getBlockingHitbox(){
         return  new CircularHitbox(Configuration.getInstance().getUnitL() * GameConstants.BLOCKER_BLOCKING_RADIUS);
@@ -33,24 +31,24 @@ public class HitboxFactory {
     }
 
     public Hitbox getAtomHitbox(){
-        return new CircularHitbox(config.getUnitL() * GameConstants.ATOM_RADIUS);
+        return new CircularHitbox(Configuration.getInstance().getUnitL() * GameConstants.ATOM_RADIUS);
     }
     public Hitbox getMoleculeHitbox(){
-        return new CircularHitbox(config.getUnitL() * GameConstants.MOLECULE_RADIUS);
+        return new CircularHitbox(Configuration.getInstance().getUnitL() * GameConstants.MOLECULE_RADIUS);
     }
     public Hitbox getPowerUpHitbox(){
-        return new RectangularHitbox(config.getUnitL() * GameConstants.POWERUP_RADIUS * 2,
-                config.getUnitL() * GameConstants.POWERUP_RADIUS * 2);
+        return new RectangularHitbox(Configuration.getInstance().getUnitL() * GameConstants.POWERUP_RADIUS * 2,
+                Configuration.getInstance().getUnitL() * GameConstants.POWERUP_RADIUS * 2);
     }
     public Hitbox getShooterHitbox(){
         return new RectangularHitbox(
-                config.getUnitL() * GameConstants.SHOOTER_WIDTH,
-                config.getUnitL() * GameConstants.SHOOTER_HEIGHT);
+                Configuration.getInstance().getUnitL() * GameConstants.SHOOTER_WIDTH,
+                Configuration.getInstance().getUnitL() * GameConstants.SHOOTER_HEIGHT);
     }
 
     public Hitbox getLinearMoleculeHitbox() {
         return new RectangularHitbox(
-                config.getUnitL() * GameConstants.MOLECULE_RADIUS * 2,
-                config.getUnitL() * GameConstants.LINEAR_MOLECULE_HEIGHT);
+                Configuration.getInstance().getUnitL() * GameConstants.MOLECULE_RADIUS * 2,
+                Configuration.getInstance().getUnitL() * GameConstants.LINEAR_MOLECULE_HEIGHT);
     }
 }
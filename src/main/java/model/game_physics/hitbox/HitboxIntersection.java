@@ -0,0 +1,64 @@
+package model.game_physics.hitbox;
+
+/**
+ * Exact overlap tests between hitbox shapes. the shapes are given by their center, size and the cosine and sine of
+ * their rotation, using the same rotation convention as {@link Hitbox#isInside(services.utils.Coordinates, services.utils.Coordinates)}.
+ * the tests do not allocate, and touching shapes count as intersecting.
+ */
+final class HitboxIntersection {
+
+    private HitboxIntersection() {
+    }
+
+    static boolean circleCircle(double x1, double y1, double radius1, double x2, double y2, double radius2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double radii = radius1 + radius2;
+        return dx * dx + dy * dy <= radii * radii;
+    }
+
+    /**
+     * finds the point of the rectangle closest to the circle center in the frame of the rectangle.
+     */
+    static boolean circleRectangle(double circleX, double circleY, double radius,
+                                   double rectangleX, double rectangleY, double halfWidth, double halfHeight,
+                                   double cos, double sin) {
+        double dx = circleX - rectangleX;
+        double dy = circleY - rectangleY;
+        // the circle center in the frame of the rectangle
+        double localX = dx * cos + dy * sin;
+        double localY = -dx * sin + dy * cos;
+        double closestX = Math.max(-halfWidth, Math.min(halfWidth, localX));
+        double closestY = Math.max(-halfHeight, Math.min(halfHeight, localY));
+        double distanceX = localX - closestX;
+        double distanceY = localY - closestY;
+        return distanceX * distanceX + distanceY * distanceY <= radius * radius;
+    }
+
+    /**
+     * separating axis test. two rectangles are disjoint iff their projections are disjoint on one of their four axes.
+     */
+    static boolean rectangleRectangle(double x1, double y1, double halfWidth1, double halfHeight1, double cos1, double sin1,
+                                      double x2, double y2, double halfWidth2, double halfHeight2, double cos2, double sin2) {
+        // the axes of both rectangles
+        double ux1 = cos1, uy1 = sin1;
+        double vx1 = -uy1, vy1 = ux1;
+        double ux2 = cos2, uy2 = sin2;
+        double vx2 = -uy2, vy2 = ux2;
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+
+        return !separates(ux1, uy1, dx, dy, halfWidth1, halfHeight1, ux1, uy1, vx1, vy1, halfWidth2, halfHeight2, ux2, uy2, vx2, vy2)
+                && !separates(vx1, vy1, dx, dy, halfWidth1, halfHeight1, ux1, uy1, vx1, vy1, halfWidth2, halfHeight2, ux2, uy2, vx2, vy2)
+                && !separates(ux2, uy2, dx, dy, halfWidth1, halfHeight1, ux1, uy1, vx1, vy1, halfWidth2, halfHeight2, ux2, uy2, vx2, vy2)
+                && !separates(vx2, vy2, dx, dy, halfWidth1, halfHeight1, ux1, uy1, vx1, vy1, halfWidth2, halfHeight2, ux2, uy2, vx2, vy2);
+    }
+
+    private static boolean separates(double axisX, double axisY, double dx, double dy,
+                                     double halfWidth1, double halfHeight1, double ux1, double uy1, double vx1, double vy1,
+                                     double halfWidth2, double halfHeight2, double ux2, double uy2, double vx2, double vy2) {
+        double projection1 = halfWidth1 * Math.abs(ux1 * axisX + uy1 * axisY) + halfHeight1 * Math.abs(vx1 * axisX + vy1 * axisY);
+        double projection2 = halfWidth2 * Math.abs(ux2 * axisX + uy2 * axisY) + halfHeight2 * Math.abs(vx2 * axisX + vy2 * axisY);
+        return Math.abs(dx * axisX + dy * axisY) > projection1 + projection2;
+    }
+}
@@ -1,8 +1,11 @@
 package model.game_physics.hitbox;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_physics.hitbox.RotationTable.Rotation;
 import services.utils.Coordinates;
+import services.utils.MathKernel;
 import services.utils.MathUtils;
 import services.utils.Vector;
 
@@ -39,21 +42,67 @@ public class RectangularHitbox extends Hitbox {
         return height;
     }
 
+    @JsonIgnore
+    @Override
+    public double getBoundingRadius() {
+        return Math.hypot(width, height) / 2;
+    }
+
     @Override
     public ArrayList<Coordinates> getBoundaryPoints(Coordinates entityCoords) {
         Coordinates cornerCoords = new Coordinates(entityCoords.getX() + getWidth() / 2, entityCoords.getY() + getHeight() / 2);
         Vector cornerVector = new Vector(entityCoords, cornerCoords);
         ArrayList<Coordinates> pts = MathUtils.getRectangularBoundaryCoordinates(cornerVector, NUMBER_OF_POINTS);
         // apply rotation to all coordinates
-        return new ArrayList<>(pts.stream().map(c -> c.rotate(entityCoords, getRotationDegree())).collect(Collectors.toList()));
+        double degree = getRotationDegree();
+        return new ArrayList<>(pts.stream().map(c -> c.rotate(entityCoords, degree)).collect(Collectors.toList()));
     }
 
+    @JsonIgnore
     @Override
-    public boolean isInside(Coordinates entityCoords, Coordinates checkCoords) {
-        checkCoords = MathUtils.applyRotation(-getRotationDegree(), entityCoords, checkCoords);
-        Coordinates cornerCoords = new Coordinates(entityCoords.getX() + getWidth() / 2, entityCoords.getY() + getHeight() / 2);
-        Vector cornerVector = new Vector(entityCoords, cornerCoords);
-        return MathUtils.isWithinRectangle(cornerVector, checkCoords);
+    public int getBoundaryPointCount() {
+        return MathKernel.rectangleBoundaryCount(NUMBER_OF_POINTS);
+    }
+
+    @Override
+    public void getBoundaryPoints(Coordinates entityCoords, double[] out) {
+        Rotation rotation = rotation();
+        MathKernel.rectangleBoundary(entityCoords.getX(), entityCoords.getY(), getWidth() / 2, getHeight() / 2,
+                rotation.cos, rotation.sin, NUMBER_OF_POINTS, out);
+    }
+
+    @Override
+    public boolean isInside(Coordinates entityCoords, double x, double y) {
+        // rotate the point back by the rotation of the hitbox
+        Rotation rotation = rotation();
+        double cos = rotation.cos;
+        double sin = -rotation.sin;
+        double cx = entityCoords.getX();
+        double cy = entityCoords.getY();
+        return MathKernel.isWithinRectangle(cx, cy, getWidth() / 2, getHeight() / 2,
+                MathKernel.rotateX(cos, sin, cx, cy, x, y), MathKernel.rotateY(cos, sin, cx, cy, x, y));
+    }
+
+    @Override
+    public boolean intersects(Coordinates entityCoords, Hitbox other, Coordinates otherCoords) {
+        return other.intersectsRectangle(otherCoords, this, entityCoords);
+    }
+
+    @Override
+    boolean intersectsCircle(Coordinates entityCoords, CircularHitbox circle, Coordinates circleCoords) {
+        Rotation rotation = rotation();
+        return HitboxIntersection.circleRectangle(circleCoords.getX(), circleCoords.getY(), circle.getRadius(),
+                entityCoords.getX(), entityCoords.getY(), width / 2, height / 2, rotation.cos, rotation.sin);
+    }
+
+    @Override
+    boolean intersectsRectangle(Coordinates entityCoords, RectangularHitbox rectangle, Coordinates rectangleCoords) {
+        Rotation rotation = rotation();
+        Rotation other = rectangle.rotation();
+        return HitboxIntersection.rectangleRectangle(
+                entityCoords.getX(), entityCoords.getY(), width / 2, height / 2, rotation.cos, rotation.sin,
+                rectangleCoords.getX(), rectangleCoords.getY(), rectangle.getWidth() / 2, rectangle.getHeight() / 2,
+                other.cos, other.sin);
     }
 
     @Override
@@ -0,0 +1,124 @@
+package model.game_physics.hitbox;
+
+import model.game_building.GameConstants;
+
+/**
+ * The sine and cosine of every multiple of a fixed angle step. The entities only rotate by fixed steps (the
+ * molecules spin by {@link GameConstants#SPINNING_SPEED} and the shooter turns by
+ * {@link GameConstants#DEFAULT_ROTATION_STEP}), so their orientations are a small set and the trigonometry of a
+ * rotation becomes a table lookup. Angles that are not a multiple of the step are not in the table.
+ */
+public final class RotationTable {
+
+    /**
+     * the table of every rotation the game makes, its step divides both the spinning and the shooter steps.
+     */
+    public static final RotationTable GAME =
+            new RotationTable(gcd((int) GameConstants.SPINNING_SPEED, GameConstants.DEFAULT_ROTATION_STEP));
+
+    private final double step;
+    private final double[] cos;
+    private final double[] sin;
+    // the rotation of every orientation, shared by the hitboxes so that turning does not allocate
+    private final Rotation[] rotations;
+
+    /**
+     * @param step the angle between two orientations in degrees, it must divide 360
+     */
+    public RotationTable(double step) {
+        int orientations = (int) Math.round(360 / step);
+        if (step <= 0 || orientations * step != 360)
+            throw new IllegalArgumentException("the step " + step + " does not divide a full turn");
+        this.step = step;
+        this.cos = new double[orientations];
+        this.sin = new double[orientations];
+        this.rotations = new Rotation[orientations];
+        for (int i = 0; i < orientations; i++) {
+            double radians = Math.toRadians(i * step);
+            cos[i] = Math.cos(radians);
+            sin[i] = Math.sin(radians);
+            rotations[i] = new Rotation(i * step, cos[i], sin[i]);
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? Math.abs(a) : gcd(b, a % b);
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public int getOrientationCount() {
+        return cos.length;
+    }
+
+    /**
+     * @param degree an angle in degrees, it may be negative or more than a full turn
+     * @return the orientation of the angle, or -1 if the angle is not a multiple of the step
+     */
+    public int orientationOf(double degree) {
+        double steps = degree / step;
+        if (steps != Math.rint(steps) || Math.abs(steps) > Integer.MAX_VALUE)
+            return -1;
+        return Math.floorMod((int) steps, cos.length);
+    }
+
+    public double cos(int orientation) {
+        return cos[orientation];
+    }
+
+    public double sin(int orientation) {
+        return sin[orientation];
+    }
+
+    /**
+     * @return the cosine of an angle in degrees, from the table if the angle is one of its orientations
+     */
+    public double cosOf(double degree) {
+        int orientation = orientationOf(degree);
+        return orientation >= 0 ? cos[orientation] : Math.cos(Math.toRadians(degree));
+    }
+
+    /**
+     * @return the sine of an angle in degrees, from the table if the angle is one of its orientations
+     */
+    public double sinOf(double degree) {
+        int orientation = orientationOf(degree);
+        return orientation >= 0 ? sin[orientation] : Math.sin(Math.toRadians(degree));
+    }
+
+    /**
+     * @return the rotation of an angle in degrees. the angles of an orientation share its rotation, whose angle is
+     * between 0 and 360, only an angle that is not one of the orientations gets a new rotation.
+     */
+    Rotation rotationOf(double degree) {
+        int orientation = orientationOf(degree);
+        if (orientation >= 0)
+            return rotations[orientation];
+        double radians = Math.toRadians(degree);
+        return new Rotation(degree, Math.cos(radians), Math.sin(radians));
+    }
+
+    /**
+     * @return the angle of an orientation in degrees, between 0 and 360
+     */
+    public double degreeOf(int orientation) {
+        return orientation * step;
+    }
+
+    /**
+     * an angle and its trigonometry, published together.
+     */
+    static final class Rotation {
+        final double degree;
+        final double cos;
+        final double sin;
+
+        private Rotation(double degree, double cos, double sin) {
+            this.degree = degree;
+            this.cos = cos;
+            this.sin = sin;
+        }
+    }
+}
@@ -115,6 +115,58 @@ public class CompositePattern extends PathPattern {
         return this.getCurrentCoords();
     }
 
+    @Override
+    protected Coordinates currentPosition() {
+        return getCurrentPattern().currentPosition();
+    }
+
+    /**
+     * the current pattern moves until its iterations are over, every following pattern starts as a new clone. so
+     * after the current pattern, a full round over the patterns always moves by the same offset.
+     */
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        long left = Math.max(0, getIterations().get(currentPatternIdx) - currentIteration);
+        if (ticks <= left)
+            return getCurrentPattern().offsetAt(ticks);
+        Coordinates offset = getCurrentPattern().offsetAt(left);
+        double x = offset.getX();
+        double y = offset.getY();
+        ticks -= left;
+
+        int size = getPatterns().size();
+        long roundSteps = 0;
+        double roundX = 0, roundY = 0;
+        for (int i = 0; i < size; i++) {
+            Coordinates patternOffset = getPatterns().get(i).offsetAt(stepsOf(i));
+            roundSteps += stepsOf(i);
+            roundX += patternOffset.getX();
+            roundY += patternOffset.getY();
+        }
+        long rounds = ticks / roundSteps;
+        x += rounds * roundX;
+        y += rounds * roundY;
+        ticks -= rounds * roundSteps;
+
+        int idx = (currentPatternIdx + 1) % size;
+        while (ticks > stepsOf(idx)) {
+            offset = getPatterns().get(idx).offsetAt(stepsOf(idx));
+            x += offset.getX();
+            y += offset.getY();
+            ticks -= stepsOf(idx);
+            idx = (idx + 1) % size;
+        }
+        offset = getPatterns().get(idx).offsetAt(ticks);
+        return new Coordinates(x + offset.getX(), y + offset.getY());
+    }
+
+    /**
+     * @return the steps a pattern takes once it starts, a pattern without iterations still takes one step
+     */
+    private long stepsOf(int patternIdx) {
+        return Math.max(1, getIterations().get(patternIdx));
+    }
+
     @Override
     public void reflect(Vector n) {
         currentPattern.reflect(n);
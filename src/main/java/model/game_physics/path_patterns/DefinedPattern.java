@@ -0,0 +1,202 @@
+package model.game_physics.path_patterns;
+
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_building.Configuration;
+import services.utils.Coordinates;
+import services.utils.MathKernel;
+import services.utils.Vector;
+
+/**
+ * Follows a shared {@link PatternDefinition}. The pattern only keeps where the entity is on the path: the phase,
+ * the steps taken in each phase and the reflection of the current segment. Nothing is created or cloned when
+ * the path switches to another segment or phase.
+ */
+@JsonTypeName("defined-pattern")
+@JsonIdentityReference(alwaysAsId = true)
+public class DefinedPattern extends PathPattern {
+    // steps after a reflection in which the segment is not reflected again
+    private static final int REFLECTION_COOLDOWN = 3;
+    // a phase ends this much early, so that rounding in the sum of the steps can not delay it by a step
+    private static final double PHASE_TOLERANCE = 1e-9;
+
+    @JsonProperty
+    private PatternDefinition definition;
+    @JsonProperty
+    private int phase;
+    @JsonProperty
+    private long[] phaseSteps;
+    @JsonProperty
+    private double phaseStartY;
+    // the reflected velocity replaces the velocity of the segment until the segment ends at reflectedUntil
+    @JsonProperty
+    private double reflectedXv;
+    @JsonProperty
+    private double reflectedYv;
+    @JsonProperty
+    private long reflectedAt;
+    @JsonProperty
+    private long reflectedUntil;
+
+    @SuppressWarnings("unused")
+    public DefinedPattern() {//this is needed for the save/load functionality
+    }
+
+    public DefinedPattern(PatternDefinition definition) {
+        this.definition = definition;
+        this.phaseSteps = new long[definition.getPhaseCount()];
+    }
+
+    public PatternDefinition getDefinition() {
+        return definition;
+    }
+
+    @Override
+    public Coordinates nextPosition() {
+        Coordinates coords = getCurrentCoords();
+        if (isPhaseOver(phase, coords.getY() - phaseStartY)) {
+            phase = (phase + 1) % definition.getPhaseCount();
+            phaseStartY = coords.getY();
+            reflectedUntil = 0;
+        }
+        Coordinates next = new Coordinates(coords.getX() + constantXv(), coords.getY() + constantYv());
+        phaseSteps[phase]++;
+        setCurrentCoords(next);
+        return next;
+    }
+
+    /**
+     * the steps until the segment, the reflection or the phase ends are constant.
+     */
+    @Override
+    public long constantSteps() {
+        long step = phaseSteps[phase];
+        double descended = getCurrentCoords().getY() - phaseStartY;
+        if (isPhaseOver(phase, descended))
+            return 0;
+        long steps = (step < reflectedUntil ? reflectedUntil : definition.getPhase(phase).segmentEnd(step)) - step;
+        if (definition.hasPhases())
+            steps = Math.min(steps, Math.max(1, StraightPattern.stepsToDescend(constantYv(), thresholdOf(phase) - descended)));
+        return steps;
+    }
+
+    /**
+     * @return the horizontal velocity of the next step, unless it starts a new phase
+     */
+    @Override
+    public double constantXv() {
+        long step = phaseSteps[phase];
+        if (step < reflectedUntil)
+            return reflectedXv;
+        PatternDefinition.Phase current = definition.getPhase(phase);
+        return current.xvOf(current.segmentOf(step));
+    }
+
+    @Override
+    public double constantYv() {
+        long step = phaseSteps[phase];
+        if (step < reflectedUntil)
+            return reflectedYv;
+        PatternDefinition.Phase current = definition.getPhase(phase);
+        return current.yvOf(current.segmentOf(step));
+    }
+
+    @Override
+    public void takeConstantStep() {
+        phaseSteps[phase]++;
+    }
+
+    private boolean isPhaseOver(int phase, double descended) {
+        return definition.hasPhases() && descended >= thresholdOf(phase);
+    }
+
+    private double thresholdOf(int phase) {
+        return definition.getPhase(phase).getRatio() * Configuration.snapshot().getGameHeight() - PHASE_TOLERANCE;
+    }
+
+    /**
+     * walks the path a segment at a time, a phase that never ends skips its whole cycles at once.
+     */
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        long[] steps = phaseSteps.clone();
+        int phase = this.phase;
+        double startY = phaseStartY - getCurrentCoords().getY(); // relative to the current position
+        long until = reflectedUntil;
+        double x = 0, y = 0;
+        while (ticks > 0) {
+            if (isPhaseOver(phase, y - startY)) {
+                phase = (phase + 1) % definition.getPhaseCount();
+                startY = y;
+                until = 0;
+            }
+            PatternDefinition.Phase current = definition.getPhase(phase);
+            long step = steps[phase];
+            if (!definition.hasPhases() && step >= until) {
+                long cycles = ticks / current.getCycleSteps();
+                x += cycles * current.getCycleX();
+                y += cycles * current.getCycleY();
+                steps[phase] += cycles * current.getCycleSteps();
+                ticks -= cycles * current.getCycleSteps();
+                step = steps[phase];
+                if (ticks == 0)
+                    break;
+            }
+
+            double xv, yv;
+            long end;
+            if (step < until) {
+                xv = reflectedXv;
+                yv = reflectedYv;
+                end = until;
+            } else {
+                int segment = current.segmentOf(step);
+                xv = current.xvOf(segment);
+                yv = current.yvOf(segment);
+                end = current.segmentEnd(step);
+            }
+            long chunk = Math.min(ticks, end - step);
+            if (definition.hasPhases()) {
+                // the phase is over after these steps, the next step starts the next phase
+                chunk = Math.min(chunk, Math.max(1, StraightPattern.stepsToDescend(yv, thresholdOf(phase) - (y - startY))));
+            }
+            x += chunk * xv;
+            y += chunk * yv;
+            steps[phase] += chunk;
+            ticks -= chunk;
+        }
+        return new Coordinates(x, y);
+    }
+
+    /**
+     * reflects the velocity of the current segment, the next segment follows the definition again.
+     */
+    @Override
+    public void reflect(Vector n) {
+        long step = phaseSteps[phase];
+        boolean reflected = step < reflectedUntil;
+        if (reflected && step - reflectedAt <= REFLECTION_COOLDOWN) {
+            PathPattern.logger.debug("[DefinedPattern] pattern was already reflected");
+            return;
+        }
+        double xv, yv;
+        if (reflected) {
+            xv = reflectedXv;
+            yv = reflectedYv;
+        } else {
+            PatternDefinition.Phase current = definition.getPhase(phase);
+            int segment = current.segmentOf(step);
+            xv = current.xvOf(segment);
+            yv = current.yvOf(segment);
+            reflectedUntil = current.segmentEnd(step);
+        }
+        double[] velocity = new double[2];
+        MathKernel.reflect(xv, yv, n.getX(), n.getY(), velocity);
+        reflectedXv = velocity[0];
+        reflectedYv = velocity[1];
+        reflectedAt = step;
+        changed();
+        PathPattern.logger.debug("[DefinedPattern] pattern reflected");
+    }
+}
@@ -20,7 +20,8 @@ import services.utils.Vector;
         @JsonSubTypes.Type(value = StraightPattern.class, name = "straight-pattern"),
         @JsonSubTypes.Type(value = ZigzagPatten.class, name = "zigzag-pattern"),
         @JsonSubTypes.Type(value = SequentialCompositePattern.class, name = "sequential-pattern"),
-        @JsonSubTypes.Type(value = CompositePattern.class, name = "composite-pattern")
+        @JsonSubTypes.Type(value = CompositePattern.class, name = "composite-pattern"),
+        @JsonSubTypes.Type(value = DefinedPattern.class, name = "defined-pattern")
 })
 @JsonIdentityReference(alwaysAsId = true)
 public abstract class PathPattern implements Cloneable {
@@ -28,6 +29,9 @@ public abstract class PathPattern implements Cloneable {
     // step represent time stamp in the path. By default it starts from zero.
     private Coordinates currentCoords;
     public static Logger logger = Logger.getLogger(PathPattern.class.getName());
+    private static final long MAX_SEARCH_STEPS = 1L << 40;
+    // counts the changes of the velocity, so that the movement kernel knows when to read it again
+    private int changes;
 
     @SuppressWarnings("unused")
     protected PathPattern() {//this is needed for the save/load functionality
@@ -56,6 +60,109 @@ public abstract class PathPattern implements Cloneable {
         return currentCoords;
     }
 
+    /**
+     * evaluates the pattern in closed form, without stepping it.
+     *
+     * @param ticks the number of steps, at least 0
+     * @return the coordinates the pattern reaches after the given number of calls to {@link #nextPosition()},
+     * up to floating point rounding. the pattern itself does not move.
+     */
+    public Coordinates positionAt(long ticks) {
+        Coordinates position = currentPosition();
+        Coordinates offset = offsetAt(ticks);
+        return new Coordinates(position.getX() + offset.getX(), position.getY() + offset.getY());
+    }
+
+    /**
+     * @return the coordinates the next step starts from
+     */
+    protected Coordinates currentPosition() {
+        return getCurrentCoords();
+    }
+
+    /**
+     * patterns are invariant for the coordinates, so how far a pattern moves in a number of steps only depends on
+     * its state, not on where it is.
+     *
+     * @param ticks the number of steps, at least 0
+     * @return the displacement after the given number of calls to {@link #nextPosition()}
+     */
+    public abstract Coordinates offsetAt(long ticks);
+
+    /**
+     * finds how many steps a pattern that never moves up needs to move down by some distance. this default does
+     * an exponential then a binary search over {@link #offsetAt(long)}.
+     *
+     * @param start    the number of steps already taken from the current state
+     * @param distance the vertical distance to be covered after the start
+     * @return the least number of steps after the start that cover the distance, Long.MAX_VALUE if never
+     */
+    public long stepsToDescend(long start, double distance) {
+        if (distance <= 0)
+            return 0;
+        double startY = offsetAt(start).getY();
+        long high = 1;
+        while (offsetAt(start + high).getY() - startY < distance) {
+            if (high >= MAX_SEARCH_STEPS)
+                return Long.MAX_VALUE;
+            high *= 2;
+        }
+        long low = high / 2; // does not cover the distance, unless it is 0
+        while (low + 1 < high) {
+            long middle = (low + high) >>> 1;
+            if (offsetAt(start + middle).getY() - startY < distance)
+                low = middle;
+            else
+                high = middle;
+        }
+        return high;
+    }
+
+    /**
+     * @param from   the coordinates the pattern starts from
+     * @param target the coordinates to be reached
+     * @return the least number of steps after which the pattern is at the target, Long.MAX_VALUE if it never is
+     * or if the pattern can not tell in closed form
+     */
+    public long stepsToReach(Coordinates from, Coordinates target) {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * lets the {@link model.game_physics.MovementKernel} move the pattern without calling {@link #nextPosition()}.
+     *
+     * @return how many of the next steps move by {@link #constantXv()} and {@link #constantYv()}, 0 if the next
+     * step has to be taken by nextPosition
+     */
+    public long constantSteps() {
+        return 0;
+    }
+
+    public double constantXv() {
+        return 0;
+    }
+
+    public double constantYv() {
+        return 0;
+    }
+
+    /**
+     * records one of the constant steps, taken by the movement kernel. the kernel moves the current coordinates.
+     */
+    public void takeConstantStep() {
+    }
+
+    /**
+     * @return a number that changes whenever the constant velocity changes
+     */
+    public final int changeCount() {
+        return changes;
+    }
+
+    protected void changed() {
+        changes++;
+    }
+
     /**
      * @return the new coordinates
      * @Requires: Coordinates is not null
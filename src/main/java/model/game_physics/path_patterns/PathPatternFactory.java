@@ -7,14 +7,17 @@ import services.utils.Velocity;
 
 import java.security.InvalidParameterException;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 // TODO: get the entity speed from the configuration
 public class PathPatternFactory {
     private static PathPatternFactory instance = null;
-    private final Configuration config;
+    private final Map<EntityType, PatternDefinition> definitions = new EnumMap<>(EntityType.class);
+    private double definedStraightSpeed = Double.NaN;
+    private double definedZigZagSpeed = Double.NaN;
 
     private PathPatternFactory(){
-        config = Configuration.getInstance();
     }
 
     public static PathPatternFactory getInstance(){
@@ -34,12 +37,12 @@ public class PathPatternFactory {
 
     public PathPattern getPowerUpPathPattern(){
         // powerUp always fall in a straight pattern downward
-        return new StraightPattern(new Velocity(0, config.getStraightPatternSpeed()));
+        return new StraightPattern(new Velocity(0, Configuration.getInstance().getStraightPatternSpeed()));
     }
 
     public PathPattern getAtomPathPattern(double angle){
         // rotate the upward vector speed
-        Vector rotatedVector = (new Vector(0, -config.getAtomSpeed())).rotateVector(angle);
+        Vector rotatedVector = (new Vector(0, -Configuration.getInstance().getAtomSpeed())).rotateVector(angle);
         return new StraightPattern(new Velocity(rotatedVector));
     }
     public PathPattern getAtomPathPattern(){
@@ -47,31 +50,45 @@ public class PathPatternFactory {
     }
 
     private PathPattern getEntityTypePathPattern(EntityType type){
+        // every entity of a type follows the same definition, it only keeps its own position on the path
+        return new DefinedPattern(getDefinition(type));
+    }
+
+    /**
+     * @return the shared path of the entity type, built again when the speeds in the configuration change
+     */
+    synchronized PatternDefinition getDefinition(EntityType type){
+        double straightSpeed = Configuration.getInstance().getStraightPatternSpeed();
+        double zigZagSpeed = Configuration.getInstance().getZigZagPatternSpeed();
+        if (straightSpeed != definedStraightSpeed || zigZagSpeed != definedZigZagSpeed) {
+            definitions.clear();
+            definedStraightSpeed = straightSpeed;
+            definedZigZagSpeed = zigZagSpeed;
+        }
+        return definitions.computeIfAbsent(type, this::createDefinition);
+    }
+
+    private PatternDefinition createDefinition(EntityType type){
         // typical Straight pattern
-        Velocity straightVelocity = new Velocity(0, config.getStraightPatternSpeed());
+        PatternDefinition straight = PatternDefinition.straight(new Velocity(0, definedStraightSpeed));
 
         // typical Zigzag pattern
-        Velocity zigZagVelocity = new Velocity(new Vector(0, config.getZigZagPatternSpeed())
-                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE));
+        PatternDefinition zigZag = PatternDefinition.zigzag(new Velocity(new Vector(0, definedZigZagSpeed)
+                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE)), GameConstants.FPS);
 
         switch (type){
             case ALPHA:
                 // follow a zigzag pattern
-                return new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
+                return zigZag;
             case BETA:
                 // 25% straight, then 75% zigzag
-                PathPattern pattern1 = new StraightPattern(straightVelocity);
-                PathPattern pattern2 = new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
-                return new RatioPattern(Arrays.asList(pattern1, pattern2), Arrays.asList(0.25, 0.75));
+                return PatternDefinition.ratio(Arrays.asList(straight, zigZag), Arrays.asList(0.25, 0.75));
             case GAMMA:
                 // 50% straight, then 50% zigzag
-                pattern1 = new StraightPattern(straightVelocity);
-                pattern2 = new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
-                return new RatioPattern(Arrays.asList(pattern1, pattern2), Arrays.asList(0.5, 0.5));
-
+                return PatternDefinition.ratio(Arrays.asList(straight, zigZag), Arrays.asList(0.5, 0.5));
             case SIGMA:
                 // follow a straight pattern
-                return new StraightPattern(straightVelocity);
+                return straight;
             default:
                 throw new InvalidParameterException("[PathPatternFactory] Entity type is not supported");
         }
@@ -0,0 +1,238 @@
+package model.game_physics.path_patterns;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import services.utils.Velocity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The shape of a path, shared by all the entities that follow it. A definition is a list of phases, and each
+ * phase repeats a cycle of straight segments. When there is more than one phase, a phase lasts until the entity
+ * went down by its ratio of the game view, then the next phase continues where it stopped the last time.
+ * Definitions are immutable, where an entity is on its path is kept in a {@link DefinedPattern}.
+ */
+public final class PatternDefinition {
+
+    // equal definitions are the same object, also when they are read from a saved session
+    private static final Map<PatternDefinition, PatternDefinition> definitions = new ConcurrentHashMap<>();
+
+    private final Phase[] phases;
+
+    private PatternDefinition(Phase[] phases) {
+        if (phases.length == 0)
+            throw new IllegalArgumentException("[PatternDefinition] a definition needs at least one phase");
+        this.phases = phases;
+    }
+
+    @JsonCreator
+    public static PatternDefinition of(@JsonProperty("phases") List<Phase> phases) {
+        PatternDefinition definition = new PatternDefinition(phases.toArray(new Phase[0]));
+        PatternDefinition shared = definitions.putIfAbsent(definition, definition);
+        return shared == null ? definition : shared;
+    }
+
+    /**
+     * @return a definition that moves with the same velocity forever
+     */
+    public static PatternDefinition straight(Velocity velocity) {
+        return of(Arrays.asList(Phase.straight(velocity, 0)));
+    }
+
+    /**
+     * @return a definition that follows the diagonal velocity and its mirror for the given steps each, starting
+     * with the given velocity, the same path as a {@link ZigzagPatten}
+     */
+    public static PatternDefinition zigzag(Velocity diagonalVelocity, int steps) {
+        return of(Arrays.asList(Phase.zigzag(diagonalVelocity, steps, 0)));
+    }
+
+    /**
+     * @param phases the phases, each is usually the single phase of a straight or zigzag definition
+     * @param ratios the ratio of the game view each phase lasts for, the same path as a {@link RatioPattern}
+     */
+    public static PatternDefinition ratio(List<PatternDefinition> phases, List<Double> ratios) {
+        Phase[] ratioPhases = new Phase[phases.size()];
+        for (int i = 0; i < ratioPhases.length; i++) {
+            Phase phase = phases.get(i).getPhase(0);
+            ratioPhases[i] = new Phase(ratios.get(i), phase.xv, phase.yv, phase.steps);
+        }
+        return of(Arrays.asList(ratioPhases));
+    }
+
+    public List<Phase> getPhases() {
+        return Arrays.asList(phases);
+    }
+
+    @JsonIgnore
+    public Phase getPhase(int phase) {
+        return phases[phase];
+    }
+
+    @JsonIgnore
+    public int getPhaseCount() {
+        return phases.length;
+    }
+
+    /**
+     * a single phase never ends, so entities with a single phase never check the game view.
+     */
+    @JsonIgnore
+    public boolean hasPhases() {
+        return phases.length > 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof PatternDefinition && Arrays.equals(phases, ((PatternDefinition) o).phases);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(phases);
+    }
+
+    /**
+     * A cycle of straight segments. A phase with a single segment keeps it forever.
+     */
+    public static final class Phase {
+        private final double ratio;
+        private final double[] xv;
+        private final double[] yv;
+        private final int[] steps;
+        // the steps of a whole cycle and how far it moves
+        private final long cycleSteps;
+        private final double cycleX;
+        private final double cycleY;
+
+        /**
+         * @param ratio the ratio of the game view the phase lasts for, unused when it is the only phase
+         * @param xv    the horizontal velocity of each segment
+         * @param yv    the vertical velocity of each segment
+         * @param steps the steps of each segment, a segment takes at least one step
+         */
+        @JsonCreator
+        public Phase(@JsonProperty("ratio") double ratio,
+                     @JsonProperty("xv") double[] xv,
+                     @JsonProperty("yv") double[] yv,
+                     @JsonProperty("steps") int[] steps) {
+            if (xv.length == 0 || xv.length != yv.length || xv.length != steps.length)
+                throw new IllegalArgumentException("[PatternDefinition] every segment needs a velocity and steps");
+            this.ratio = ratio;
+            this.xv = xv.clone();
+            this.yv = yv.clone();
+            this.steps = steps.clone();
+            long cycle = 0;
+            double x = 0, y = 0;
+            for (int i = 0; i < steps.length; i++) {
+                cycle += stepsOf(i);
+                x += stepsOf(i) * xv[i];
+                y += stepsOf(i) * yv[i];
+            }
+            this.cycleSteps = cycle;
+            this.cycleX = x;
+            this.cycleY = y;
+        }
+
+        static Phase straight(Velocity velocity, double ratio) {
+            return new Phase(ratio, new double[]{velocity.getXv()}, new double[]{velocity.getYv()}, new int[]{1});
+        }
+
+        static Phase zigzag(Velocity diagonalVelocity, int steps, double ratio) {
+            return new Phase(ratio,
+                    new double[]{diagonalVelocity.getXv(), -diagonalVelocity.getXv()},
+                    new double[]{diagonalVelocity.getYv(), diagonalVelocity.getYv()},
+                    new int[]{steps, steps});
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public double[] getXv() {
+            return xv.clone();
+        }
+
+        public double[] getYv() {
+            return yv.clone();
+        }
+
+        public int[] getSteps() {
+            return steps.clone();
+        }
+
+        private long stepsOf(int segment) {
+            return Math.max(1, steps[segment]);
+        }
+
+        /**
+         * @param step the number of steps taken in the phase
+         * @return the segment the next step is taken in
+         */
+        int segmentOf(long step) {
+            if (steps.length == 1)
+                return 0;
+            long rest = step % cycleSteps;
+            int segment = 0;
+            while (rest >= stepsOf(segment)) {
+                rest -= stepsOf(segment);
+                segment++;
+            }
+            return segment;
+        }
+
+        /**
+         * @param step the number of steps taken in the phase
+         * @return the number of steps in the phase after which the segment of the next step ends
+         */
+        long segmentEnd(long step) {
+            if (steps.length == 1)
+                return Long.MAX_VALUE;
+            long end = step - step % cycleSteps;
+            for (int segment = 0; segment <= segmentOf(step); segment++)
+                end += stepsOf(segment);
+            return end;
+        }
+
+        double xvOf(int segment) {
+            return xv[segment];
+        }
+
+        double yvOf(int segment) {
+            return yv[segment];
+        }
+
+        long getCycleSteps() {
+            return cycleSteps;
+        }
+
+        double getCycleX() {
+            return cycleX;
+        }
+
+        double getCycleY() {
+            return cycleY;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Phase)) return false;
+            Phase phase = (Phase) o;
+            return Double.compare(ratio, phase.ratio) == 0 && Arrays.equals(xv, phase.xv) &&
+                    Arrays.equals(yv, phase.yv) && Arrays.equals(steps, phase.steps);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(ratio);
+            result = 31 * result + Arrays.hashCode(xv);
+            result = 31 * result + Arrays.hashCode(yv);
+            return 31 * result + Arrays.hashCode(steps);
+        }
+    }
+}
@@ -7,7 +7,9 @@ import model.game_building.Configuration;
 import services.utils.Coordinates;
 import services.utils.Vector;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is a composite path pattern that alternate between set of path patterns based on the ration of the game
@@ -64,7 +66,7 @@ public class RatioPattern extends PathPattern {
     @Override
     public Coordinates nextPosition() {
         if (getCurrentCoords().getY() - lastYCoords
-                >= ratios.get(currentPatternIdx) * Configuration.getInstance().getGamePanelDimensions().height) {
+                >= ratios.get(currentPatternIdx) * Configuration.snapshot().getGamePanelHeight()) {
             getLogger().debug("[RatioPattern] ratio of the " + (this.currentPatternIdx + 1) + "th pattern finished");
             getLogger().debug("[RatioPattern] transition coordinates are " + this.getCurrentCoords());
             // update the last y coordinates and the current pattern
@@ -83,6 +85,43 @@ public class RatioPattern extends PathPattern {
         return ratios;
     }
 
+    /**
+     * follows the patterns the way stepping would: a pattern moves until the entity went down by its ratio of the
+     * game view, and the patterns are shared, so a pattern that comes back continues where it stopped. the sub
+     * patterns should never move up.
+     */
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        double height = Configuration.snapshot().getGamePanelHeight();
+        // the steps each pattern took so far in this evaluation
+        Map<PathPattern, Long> taken = new IdentityHashMap<>();
+        PathPattern pattern = getCurrentPattern();
+        int idx = currentPatternIdx;
+        double descended = getCurrentCoords().getY() - lastYCoords;
+        boolean switched = false;
+        double x = 0, y = 0;
+        while (ticks > 0) {
+            long start = taken.getOrDefault(pattern, 0L);
+            long steps = pattern.stepsToDescend(start, ratios.get(idx) * height - descended);
+            if (switched)
+                steps = Math.max(1, steps); // a pattern takes at least one step once it is switched to
+            steps = Math.min(steps, ticks);
+
+            Coordinates from = pattern.offsetAt(start);
+            Coordinates to = pattern.offsetAt(start + steps);
+            x += to.getX() - from.getX();
+            y += to.getY() - from.getY();
+            taken.put(pattern, start + steps);
+            ticks -= steps;
+
+            idx = (idx + 1) % getPatterns().size();
+            pattern = getPatterns().get(idx);
+            descended = 0;
+            switched = true;
+        }
+        return new Coordinates(x, y);
+    }
+
     @Override
     public void reflect(Vector n) {
         try {
@@ -24,6 +24,7 @@ public class SequentialCompositePattern extends PathPattern{
         super(patterns.get(0).getCurrentCoords());
         this.patterns = patterns;
         this.currentPatternIdx = 0;
+        this.currentCoords = patterns.get(0).getCurrentCoords();
         setCurrentPattern(patterns.get(this.currentPatternIdx));
     }
 
@@ -41,8 +42,9 @@ public class SequentialCompositePattern extends PathPattern{
 
     @Override
     public Coordinates nextPosition() {
-        // check if we reached the next path pattern.
-        if (currentCoords.equals(getPatterns().get(currentPatternIdx + 1).getCurrentCoords())){
+        // check if we reached the next path pattern. the last pattern is followed forever.
+        if (currentPatternIdx + 1 < getPatterns().size() &&
+                currentCoords.equals(getPatterns().get(currentPatternIdx + 1).getCurrentCoords())){
             this.currentPatternIdx += 1;
             setCurrentPattern(getPatterns().get(this.currentPatternIdx));
         }
@@ -50,6 +52,44 @@ public class SequentialCompositePattern extends PathPattern{
         return this.currentCoords;
     }
 
+    @Override
+    protected Coordinates currentPosition() {
+        return currentCoords;
+    }
+
+    /**
+     * follows each pattern until it reaches the start of the next one, as far as the patterns can tell it in
+     * closed form (see {@link PathPattern#stepsToReach(Coordinates, Coordinates)}).
+     */
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        PathPattern pattern = getCurrentPattern();
+        int idx = currentPatternIdx;
+        double x = 0, y = 0;
+        boolean switched = false;
+        while (ticks > 0) {
+            long steps = Long.MAX_VALUE;
+            if (idx + 1 < getPatterns().size()) {
+                Coordinates from = new Coordinates(currentCoords.getX() + x, currentCoords.getY() + y);
+                steps = pattern.stepsToReach(from, getPatterns().get(idx + 1).getCurrentCoords());
+            }
+            if (switched)
+                steps = Math.max(1, steps); // a pattern takes at least one step once it is switched to
+            steps = Math.min(steps, ticks);
+
+            Coordinates offset = pattern.offsetAt(steps);
+            x += offset.getX();
+            y += offset.getY();
+            ticks -= steps;
+            if (ticks > 0) {
+                idx++;
+                pattern = getPatterns().get(idx);
+                switched = true;
+            }
+        }
+        return new Coordinates(x, y);
+    }
+
     @Override
     public void reflect(Vector n) {
         // TODO: implement reflect or delete the whole pattern (We have not used this pattern yet)
@@ -3,6 +3,7 @@ package model.game_physics.path_patterns;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import services.utils.Coordinates;
+import services.utils.MathKernel;
 import services.utils.Vector;
 import services.utils.Velocity;
 
@@ -14,6 +15,7 @@ import services.utils.Velocity;
 public class StraightPattern extends PathPattern {
     private Velocity initialVelocity;
     private int sinceReflected = 100;
+    private static final double REACH_TOLERANCE = 1e-9;
 
     @SuppressWarnings("unused")
     public StraightPattern() {//this is needed for the save/load functionality
@@ -41,11 +43,79 @@ public class StraightPattern extends PathPattern {
         return getCurrentCoords();
     }
 
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        return new Coordinates(ticks * getInitialVelocity().getXv(), ticks * getInitialVelocity().getYv());
+    }
+
+    @Override
+    public long stepsToDescend(long start, double distance) {
+        return stepsToDescend(getInitialVelocity().getYv(), distance);
+    }
+
+    /**
+     * @return the least number of steps with the vertical velocity that cover the distance, Long.MAX_VALUE if never
+     */
+    static long stepsToDescend(double yv, double distance) {
+        if (distance <= 0)
+            return 0;
+        if (yv <= 0)
+            return Long.MAX_VALUE;
+        long steps = (long) Math.ceil(distance / yv);
+        // the division can be one step off, settle on the same comparison the other patterns use
+        while (steps > 1 && (steps - 1) * yv >= distance)
+            steps--;
+        while (steps * yv < distance)
+            steps++;
+        return steps;
+    }
+
+    @Override
+    public long stepsToReach(Coordinates from, Coordinates target) {
+        double xv = getInitialVelocity().getXv();
+        double yv = getInitialVelocity().getYv();
+        double dx = target.getX() - from.getX();
+        double dy = target.getY() - from.getY();
+        if (xv == 0 && yv == 0)
+            return dx == 0 && dy == 0 ? 0 : Long.MAX_VALUE;
+        long steps = Math.round(Math.abs(xv) >= Math.abs(yv) ? dx / xv : dy / yv);
+        if (steps < 0 || !isClose(steps * xv, dx) || !isClose(steps * yv, dy))
+            return Long.MAX_VALUE;
+        return steps;
+    }
+
+    private static boolean isClose(double a, double b) {
+        return Math.abs(a - b) <= REACH_TOLERANCE * Math.max(1, Math.max(Math.abs(a), Math.abs(b)));
+    }
+
+    @Override
+    public long constantSteps() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public double constantXv() {
+        return getInitialVelocity().getXv();
+    }
+
+    @Override
+    public double constantYv() {
+        return getInitialVelocity().getYv();
+    }
+
+    @Override
+    public void takeConstantStep() {
+        this.sinceReflected++;
+    }
+
     @Override
     public void reflect(Vector n) {
         if(sinceReflected > 3) {
-            this.initialVelocity = initialVelocity.reflect(n);
+            double[] reflected = new double[2];
+            MathKernel.reflect(initialVelocity.getXv(), initialVelocity.getYv(), n.getX(), n.getY(), reflected);
+            this.initialVelocity = new Velocity(reflected[0], reflected[1]);
             this.sinceReflected = 0;
+            changed();
             PathPattern.logger.debug("[StraightPattern] pattern reflected");
         }
         else {
@@ -56,5 +126,6 @@ public class StraightPattern extends PathPattern {
     @Override
     public void setVelocity(double velocity) {
         initialVelocity = new Velocity(initialVelocity.getXv() * velocity, initialVelocity.getYv() * velocity);
+        changed();
     }
 }
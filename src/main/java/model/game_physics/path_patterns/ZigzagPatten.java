@@ -79,6 +79,8 @@ public class ZigzagPatten extends PathPattern {
     @Override
     @JsonIgnore
     public void setCurrentCoords(Coordinates currentCoords) {
+        // the composite continues from its own coordinates when it switches the diagonal
+        this.zigzagPattern.setCurrentCoords(currentCoords);
         this.zigzagPattern.getCurrentPattern().setCurrentCoords(currentCoords);
     }
 
@@ -87,6 +89,16 @@ public class ZigzagPatten extends PathPattern {
         return this.zigzagPattern.nextPosition();
     }
 
+    @Override
+    protected Coordinates currentPosition() {
+        return zigzagPattern.currentPosition();
+    }
+
+    @Override
+    public Coordinates offsetAt(long ticks) {
+        return zigzagPattern.offsetAt(ticks);
+    }
+
     @Override
     public void reflect(Vector n) {
         zigzagPattern.reflect(n);
@@ -0,0 +1,82 @@
+package model.game_running;
+
+import model.game_entities.*;
+import model.game_entities.enums.SuperType;
+
+import java.lang.reflect.Method;
+
+/**
+ * A SuperType x SuperType table of the collisions a {@link CollisionVisitor} actually handles.
+ * A collision of a source entity with a target entity ends in handleCollision(target, source), so the pair
+ * interacts only if the visitor implements that method. The methods left to the empty defaults of the
+ * interface are non-interacting, and their pairs do not need a geometric test at all.
+ */
+public class CollisionMatrix {
+
+    private final boolean[][] interacts;
+
+    private CollisionMatrix(boolean[][] interacts) {
+        this.interacts = interacts;
+    }
+
+    /**
+     * builds the matrix of the given visitor from the methods its class implements.
+     *
+     * @param visitor the visitor that handles the collisions
+     * @return the interaction matrix of the visitor
+     */
+    public static CollisionMatrix of(CollisionVisitor visitor) {
+        SuperType[] types = SuperType.values();
+        boolean[][] interacts = new boolean[types.length][types.length];
+        for (SuperType source : types) {
+            for (SuperType target : types) {
+                Class<?> sourceClass = entityClass(source);
+                Class<?> targetClass = entityClass(target);
+                if (sourceClass == null || targetClass == null)
+                    continue;
+                try {
+                    Method method = visitor.getClass().getMethod("handleCollision", targetClass, sourceClass);
+                    interacts[source.ordinal()][target.ordinal()] = method.getDeclaringClass() != CollisionVisitor.class;
+                } catch (NoSuchMethodException e) {
+                    // no method for this pair, the entities can not collide
+                }
+            }
+        }
+        return new CollisionMatrix(interacts);
+    }
+
+    /**
+     * @param source the type of the entity whose hitbox is checked
+     * @param target the type of the entity it collides with
+     * @return true if a collision of the source with the target has any effect. unknown types are assumed to interact.
+     */
+    public boolean interacts(SuperType source, SuperType target) {
+        if (source == null || target == null)
+            return true;
+        return interacts[source.ordinal()][target.ordinal()];
+    }
+
+    /**
+     * @return true if the two types interact in at least one direction
+     */
+    public boolean interactsEitherWay(SuperType first, SuperType second) {
+        return interacts(first, second) || interacts(second, first);
+    }
+
+    private static Class<?> entityClass(SuperType type) {
+        switch (type) {
+            case MOLECULE:
+                return Molecule.class;
+            case ATOM:
+                return Atom.class;
+            case BLOCKER:
+                return Blocker.class;
+            case POWERUP:
+                return Powerup.class;
+            case SHOOTER:
+                return Shooter.class;
+            default:
+                return null; // shields are atoms at runtime
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_running.listeners.CensusListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * live counts of entities per super type and entity type, kept up to date as entities come and go instead of being
+ * counted when they are needed. one thread (the game loop) changes the counts and then commits them, the other
+ * threads read the last committed {@link Counts}, whose counts always agree with each other. the game keeps one
+ * census of the entities on the screen and one of the entities left to drop.
+ * the listeners are called on the thread that changes the counts, the game loop, so a listener that updates the UI
+ * must hand the change over to the event dispatch thread.
+ */
+public class EntityCensus {
+
+    private static final int SUPER_TYPES = SuperType.values().length;
+    private static final int ENTITY_TYPES = EntityType.values().length;
+    // the counts per super type and entity type, then the counts per super type, then the total
+    private static final int LENGTH = SUPER_TYPES * ENTITY_TYPES + SUPER_TYPES + 1;
+
+    private final int[] working = new int[LENGTH];
+    private volatile Counts committed = new Counts(new int[LENGTH]);
+    private final List<CensusListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static int index(SuperType superType, EntityType entityType) {
+        return superType.ordinal() * ENTITY_TYPES + entityType.ordinal();
+    }
+
+    private static int index(SuperType superType) {
+        return SUPER_TYPES * ENTITY_TYPES + superType.ordinal();
+    }
+
+    /**
+     * @return the counts as of the last commit
+     */
+    public Counts counts() {
+        return committed;
+    }
+
+    public int count(SuperType superType, EntityType entityType) {
+        return committed.count(superType, entityType);
+    }
+
+    public int count(SuperType superType) {
+        return committed.count(superType);
+    }
+
+    public int total() {
+        return committed.total();
+    }
+
+    public void add(AutonomousEntity entity) {
+        change(entity.getSuperType(), entity.getEntityType(), 1);
+    }
+
+    public void remove(AutonomousEntity entity) {
+        change(entity.getSuperType(), entity.getEntityType(), -1);
+    }
+
+    /**
+     * @param superType  the super type to set the count of
+     * @param entityType the entity type to set the count of
+     * @param count      the new count, not negative
+     */
+    public void set(SuperType superType, EntityType entityType, int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("negative count " + count + " of " + entityType + " " + superType);
+        change(superType, entityType, count - working[index(superType, entityType)]);
+    }
+
+    /**
+     * changes a count by the given amount, a count never goes below zero. the change is seen by the other threads
+     * after the next commit, the listeners are notified right away.
+     */
+    public void change(SuperType superType, EntityType entityType, int delta) {
+        int index = index(superType, entityType);
+        int count = working[index];
+        delta = Math.max(delta, -count);
+        if (delta == 0)
+            return;
+        working[index] = count + delta;
+        working[index(superType)] += delta;
+        working[LENGTH - 1] += delta;
+        for (CensusListener listener : listeners)
+            listener.onCountChanged(superType, entityType, count + delta);
+    }
+
+    /**
+     * sets every count to zero.
+     */
+    public void clear() {
+        for (SuperType superType : SuperType.values())
+            for (EntityType entityType : EntityType.values())
+                set(superType, entityType, 0);
+    }
+
+    /**
+     * makes the changes since the last commit visible to the other threads, all at once.
+     */
+    public void commit() {
+        committed = new Counts(working.clone());
+    }
+
+    /**
+     * @param listener notified of every change of a count, on the game loop thread
+     */
+    public void addListener(CensusListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(CensusListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * the counts of a census at one commit.
+     */
+    public static final class Counts {
+        private final int[] counts;
+
+        private Counts(int[] counts) {
+            this.counts = counts;
+        }
+
+        public int count(SuperType superType, EntityType entityType) {
+            return counts[index(superType, entityType)];
+        }
+
+        public int count(SuperType superType) {
+            return counts[index(superType)];
+        }
+
+        public int total() {
+            return counts[LENGTH - 1];
+        }
+    }
+}
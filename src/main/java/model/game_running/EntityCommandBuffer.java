@@ -0,0 +1,73 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects the entity additions and removals requested during a tick, from any thread, so that they can be
+ * applied together when the tick ends. A removal is only recorded once per tick, no matter how many collisions
+ * ask for it.
+ */
+public class EntityCommandBuffer {
+
+    private final Queue<AutonomousEntity> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<AutonomousEntity> removals = new ConcurrentLinkedQueue<>();
+    // entities removed during the current tick, so that they are not handled again before the tick ends
+    private final Set<AutonomousEntity> removed = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public void add(AutonomousEntity entity) {
+        additions.add(entity);
+    }
+
+    /**
+     * @return true if the removal was recorded, false if the entity was already removed in this tick
+     */
+    public boolean remove(AutonomousEntity entity) {
+        if (!removed.add(entity))
+            return false;
+        removals.add(entity);
+        return true;
+    }
+
+    /**
+     * @return true if the entity was removed in the current tick and should no longer take part in it
+     */
+    public boolean isRemoved(AutonomousEntity entity) {
+        return !removed.isEmpty() && removed.contains(entity);
+    }
+
+    /**
+     * moves the recorded commands into the given collections. other threads may keep recording while the
+     * commands are being applied, those are left for the next tick.
+     */
+    public void drainTo(Collection<AutonomousEntity> additions, Collection<AutonomousEntity> removals) {
+        drain(this.removals, removals);
+        drain(this.additions, additions);
+    }
+
+    /**
+     * forgets the removals once they were applied, the entities may be removed again in a later tick.
+     */
+    public void clearRemoved(Collection<AutonomousEntity> removals) {
+        for (AutonomousEntity entity : removals)
+            removed.remove(entity);
+    }
+
+    public void clear() {
+        additions.clear();
+        removals.clear();
+        removed.clear();
+    }
+
+    private static void drain(Queue<AutonomousEntity> queue, Collection<AutonomousEntity> target) {
+        AutonomousEntity entity;
+        while ((entity = queue.poll()) != null)
+            target.add(entity);
+    }
+}
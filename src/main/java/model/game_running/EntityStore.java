@@ -0,0 +1,157 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+
+import java.util.*;
+
+/**
+ * Holds the autonomous entities of the game for one writer (the game loop) and many readers.
+ * Readers always see an immutable snapshot. Additions and removals can be requested from any thread, they are
+ * staged in an {@link EntityCommandBuffer} and only become visible when the game loop publishes them at the end
+ * of a tick, so every reader sees the same entities for the whole tick. Reading and iterating a snapshot by index does not allocate.
+ */
+public class EntityStore {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // the entities of the published snapshot by type, updated by every publish
+    private final EntityCensus census = new EntityCensus();
+
+    private final EntityCommandBuffer commands = new EntityCommandBuffer();
+    // only used by the game loop while publishing
+    private final ArrayList<AutonomousEntity> additions = new ArrayList<>();
+    private final ArrayList<AutonomousEntity> removals = new ArrayList<>();
+    private final ArrayList<AutonomousEntity> added = new ArrayList<>();
+    private final ArrayList<AutonomousEntity> removed = new ArrayList<>();
+    private final List<AutonomousEntity> addedView = Collections.unmodifiableList(added);
+    private final List<AutonomousEntity> removedView = Collections.unmodifiableList(removed);
+
+    /**
+     * @return the entities as of the last published tick
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * stages an entity to be added at the end of the tick.
+     */
+    public void add(AutonomousEntity entity) {
+        commands.add(entity);
+    }
+
+    /**
+     * stages an entity to be removed at the end of the tick.
+     */
+    public void remove(AutonomousEntity entity) {
+        commands.remove(entity);
+    }
+
+    /**
+     * @return true if the entity was removed in the current tick and should no longer take part in it
+     */
+    public boolean isPendingRemoval(AutonomousEntity entity) {
+        return commands.isRemoved(entity);
+    }
+
+    /**
+     * applies the staged additions and removals and publishes the new snapshot. only the game loop calls this.
+     * an entity added and removed in the same tick is never published.
+     *
+     * @return true if the entities changed
+     */
+    public boolean publish() {
+        added.clear();
+        removed.clear();
+        commands.drainTo(additions, removals);
+        if (additions.isEmpty() && removals.isEmpty())
+            return false;
+
+        Snapshot current = snapshot;
+        AutonomousEntity[] entities = new AutonomousEntity[current.size() + additions.size()];
+        int size = 0;
+        for (int i = 0; i < current.size(); i++) {
+            AutonomousEntity entity = current.get(i);
+            if (commands.isRemoved(entity)) {
+                removed.add(entity);
+                census.remove(entity);
+            } else
+                entities[size++] = entity;
+        }
+        for (AutonomousEntity entity : additions) {
+            if (!commands.isRemoved(entity)) {
+                entities[size++] = entity;
+                added.add(entity);
+                census.add(entity);
+            }
+        }
+        commands.clearRemoved(removals);
+        additions.clear();
+        removals.clear();
+
+        snapshot = new Snapshot(entities, size);
+        census.commit();
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+
+    /**
+     * @return the entities the last publish added. valid until the next publish.
+     */
+    public List<AutonomousEntity> getAdded() {
+        return addedView;
+    }
+
+    /**
+     * @return the entities the last publish removed. valid until the next publish.
+     */
+    public List<AutonomousEntity> getRemoved() {
+        return removedView;
+    }
+
+    /**
+     * replaces all entities at once, dropping anything staged. used when a game session is loaded.
+     */
+    public void reset(Collection<? extends AutonomousEntity> entities) {
+        commands.clear();
+        added.clear();
+        removed.clear();
+        snapshot = new Snapshot(entities.toArray(new AutonomousEntity[0]), entities.size());
+        census.clear();
+        for (AutonomousEntity entity : entities)
+            census.add(entity);
+        census.commit();
+    }
+
+    /**
+     * @return the counts of the published entities by type
+     */
+    public EntityCensus getCensus() {
+        return census;
+    }
+
+    /**
+     * An immutable list of entities backed by an array.
+     */
+    public static final class Snapshot extends AbstractList<AutonomousEntity> implements RandomAccess {
+        static final Snapshot EMPTY = new Snapshot(new AutonomousEntity[0], 0);
+
+        private final AutonomousEntity[] entities;
+        private final int size;
+
+        private Snapshot(AutonomousEntity[] entities, int size) {
+            this.entities = entities;
+            this.size = size;
+        }
+
+        @Override
+        public AutonomousEntity get(int index) {
+            if (index >= size)
+                throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+            return entities[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import model.game_physics.hitbox.HitboxFactory;
 import model.game_physics.path_patterns.PathPatternFactory;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
+import services.utils.FenwickSampler;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +33,8 @@ public class ProjectileContainer {
 
     private RunningMode runningMode;
     private Random random = new Random();
+    // the atom types that can be drawn, built from atomMap when it is first needed (e.g. after loading a game)
+    private FenwickSampler atomTypes;
 
     public ProjectileContainer(RunningMode runningMode, int numOfAlphaAtoms, int numOfBetaAtoms, int numOfSigmaAtoms, int numOfGammaAtoms) {
         this.runningMode = runningMode;
@@ -82,16 +85,34 @@ public class ProjectileContainer {
         return null;
     }
 
-    public Atom getRandomAtom(Coordinates coordinates) { //needs some refactoring
-        if (totalAtomCount == 0)
+    /**
+     * creates an atom of a random type among the types that have remaining atoms, every such type is equally likely.
+     *
+     * @param coordinates the coordinates of the atom
+     * @return the atom, or null if there are no remaining atoms
+     */
+    public Atom getRandomAtom(Coordinates coordinates) {
+        int atomType = getAtomTypes().sample(random);
+        if (atomType < 0)
             return null; //out of atoms
-        int atomType;
-        Atom atom = null;
-        while (atom == null) {
-            atomType = random.nextInt(4);
-            atom = getAtom(coordinates, atomType);
+        return getAtom(coordinates, atomType);
+    }
+
+    /**
+     * a type has a weight of one while it has remaining atoms, so one draw picks a type the same way as drawing
+     * types until one has atoms left.
+     */
+    private FenwickSampler getAtomTypes() {
+        if (atomTypes == null) {
+            atomTypes = new FenwickSampler(atomMap.length);
+            for (int type = 0; type < atomMap.length; type++)
+                updateAtomType(type);
         }
-        return atom;
+        return atomTypes;
+    }
+
+    private void updateAtomType(int type) {
+        atomTypes.setWeight(type, atomMap[type] > 0 ? 1 : 0);
     }
 
     /**
@@ -148,6 +169,42 @@ public class ProjectileContainer {
         return updateProjectileMap(atomMap, SuperType.ATOM, type, count);
     }
 
+    /**
+     * used in blending/breaking. converts as many groups of source atoms into destination atoms as the remaining
+     * source atoms allow, up to the given number of conversions. the counts change in one step and the statistics
+     * are notified once, however many conversions happen.
+     *
+     * @param sourceType               the type to be converted
+     * @param sourcePerConversion      the amount of source atoms one conversion takes
+     * @param destinationType          the type to be produced
+     * @param destinationPerConversion the amount of destination atoms one conversion gives
+     * @param numOfConversions         the number of conversions asked for
+     * @return the number of conversions that happened, zero if there are not enough source atoms
+     */
+    public int convertAtoms(int sourceType, int sourcePerConversion, int destinationType, int destinationPerConversion,
+                            int numOfConversions) {
+        if (numOfConversions <= 0 || sourcePerConversion <= 0 || destinationPerConversion <= 0)
+            return 0;
+        int conversions = Math.min(numOfConversions, atomMap[sourceType] / sourcePerConversion);
+        // the counts stay within an int
+        if (sourceType != destinationType)
+            conversions = Math.min(conversions, (Integer.MAX_VALUE - atomMap[destinationType]) / destinationPerConversion);
+        if (conversions == 0)
+            return 0;
+
+        int taken = conversions * sourcePerConversion;
+        int given = conversions * destinationPerConversion;
+        atomMap[sourceType] -= taken;
+        atomMap[destinationType] += given;
+        totalAtomCount += given - taken;
+        if (atomTypes != null) {
+            updateAtomType(sourceType);
+            updateAtomType(destinationType);
+        }
+        notifyProjectileCount();
+        return conversions;
+    }
+
     public void addShields(int type, ShieldTuple shields) {
         if (shields != null && shields.isNotEmpty())
             shieldsMap.get(type).add(shields);
@@ -169,14 +226,21 @@ public class ProjectileContainer {
         if (remaining < -count)
             return false;
         map[type] = remaining + count;
-        if (superType.equals(SuperType.ATOM))
+        if (superType.equals(SuperType.ATOM)) {
             totalAtomCount += count;
+            if (atomTypes != null)
+                updateAtomType(type);
+        }
+        notifyProjectileCount();
+        return true;
+    }
+
+    private void notifyProjectileCount() {
         if (runningMode != null) {
             runningMode.updateStatisticsProjectileCount();
         } else {
             logger.warn("RunningMode instance is null");
         }
-        return true;
     }
 
     public int[] getAtomMap() {
@@ -209,10 +273,22 @@ public class ProjectileContainer {
     public ShieldTuple getShields(EntityType entityType) {
         ArrayList<ShieldTuple> shieldLst = shieldsMap.get(entityType.getValue());
         if (random.nextBoolean() || shieldedAtoms(entityType.getValue()) >= getAtomCountForType(entityType))
-            return shieldLst.size() > 0 ? shieldsMap.get(entityType.getValue()).remove(random.nextInt(shieldLst.size())) : new ShieldTuple();
+            return shieldLst.size() > 0 ? removeSwapped(shieldLst, random.nextInt(shieldLst.size())) : new ShieldTuple();
         return new ShieldTuple();
     }
 
+    /**
+     * removes an element in O(1) by moving the last element into its place. the order of the shields does not
+     * matter, they are drawn at random.
+     */
+    private static ShieldTuple removeSwapped(ArrayList<ShieldTuple> shields, int index) {
+        int last = shields.size() - 1;
+        ShieldTuple removed = shields.get(index);
+        shields.set(index, shields.get(last));
+        shields.remove(last);
+        return removed;
+    }
+
     private int shieldedAtoms(int type) {
         return shieldsMap.get(type).size();
     }
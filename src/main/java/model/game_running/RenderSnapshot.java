@@ -0,0 +1,142 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Entity;
+import model.game_entities.Projectile;
+import model.game_entities.Shooter;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+
+import java.util.List;
+
+/**
+ * What the game view needs to draw one tick, copied out of the entities when the tick ends.
+ * The renderer only reads snapshots, so it never sees an entity in the middle of a move and never touches the
+ * entities the game loop is updating. Snapshots are reused by {@link RenderSnapshotBuffer}, which never refills
+ * the one the renderer is drawing.
+ */
+public final class RenderSnapshot {
+
+    private static final SuperType[] SUPER_TYPES = SuperType.values();
+
+    private int size;
+    private int[] ids = new int[0];
+    private byte[] types = new byte[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] rotation = new double[0];
+
+    private double shooterX;
+    private double shooterY;
+    private double shooterAngle;
+    private SuperType projectileSuperType;
+    private EntityType projectileEntityType;
+    private double projectileWidth;
+    private double projectileHeight;
+    private boolean projectileShielded;
+
+    RenderSnapshot() {
+    }
+
+    /**
+     * copies the drawing state of the entities and the shooter over the previous content of the snapshot. called
+     * by the game loop between two ticks. the arrays only grow, so a game whose entity count has settled copies
+     * its ticks without allocating.
+     */
+    void capture(List<AutonomousEntity> entities, Shooter shooter) {
+        int count = entities.size();
+        if (count > ids.length)
+            grow(Math.max(count, ids.length + ids.length / 2));
+        size = count;
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities.get(i);
+            ids[i] = entity.getId();
+            types[i] = (byte) entity.getSuperType().ordinal();
+            x[i] = entity.getCoordinates().getX();
+            y[i] = entity.getCoordinates().getY();
+            rotation[i] = entity.getHitbox().getRotationDegree();
+        }
+        Projectile projectile = shooter != null ? shooter.getCurrentProjectile() : null;
+        shooterX = shooter != null ? shooter.getCoordinates().getX() : 0;
+        shooterY = shooter != null ? shooter.getCoordinates().getY() : 0;
+        shooterAngle = shooter != null ? shooter.getAngle() : 0;
+        projectileSuperType = projectile != null ? projectile.getSuperType() : null;
+        projectileEntityType = projectile != null ? projectile.getEntityType() : null;
+        projectileWidth = projectile != null ? projectile.getHitbox().getWidth() : 0;
+        projectileHeight = projectile != null ? projectile.getHitbox().getHeight() : 0;
+        projectileShielded = projectile != null && shooter.isAtomShielded();
+    }
+
+    private void grow(int capacity) {
+        ids = new int[capacity];
+        types = new byte[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        rotation = new double[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the {@link Entity#getId() id} of the entity at the given index
+     */
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public SuperType getSuperType(int index) {
+        return SUPER_TYPES[types[index]];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @return the rotation of the entity at the given index, in degrees
+     */
+    public double getRotation(int index) {
+        return rotation[index];
+    }
+
+    public double getShooterX() {
+        return shooterX;
+    }
+
+    public double getShooterY() {
+        return shooterY;
+    }
+
+    public double getShooterAngle() {
+        return shooterAngle;
+    }
+
+    /**
+     * @return the super type of the projectile on the tip of the shooter, null if there is none
+     */
+    public SuperType getProjectileSuperType() {
+        return projectileSuperType;
+    }
+
+    public EntityType getProjectileEntityType() {
+        return projectileEntityType;
+    }
+
+    public double getProjectileWidth() {
+        return projectileWidth;
+    }
+
+    public double getProjectileHeight() {
+        return projectileHeight;
+    }
+
+    public boolean isProjectileShielded() {
+        return projectileShielded;
+    }
+}
@@ -0,0 +1,41 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Shooter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Three render snapshots that the game loop refills in turn, so that publishing a tick does not allocate.
+ * The game loop fills the back snapshot and swaps it with the middle one. The render loop takes the middle snapshot
+ * in exchange for the front one when it holds a newer tick, and draws the front one. So neither loop ever touches
+ * the snapshot the other one is using. Only one thread may publish at a time, and only the render loop may draw.
+ */
+final class RenderSnapshotBuffer {
+
+    // set in the middle index while it holds a tick the render loop has not taken yet
+    private static final int FRESH = 4;
+
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    private int back = 0; // only used by the game loop
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int front = 2; // only used by the render loop
+
+    /**
+     * copies the drawing state of a tick and makes it the latest one.
+     */
+    void publish(List<AutonomousEntity> entities, Shooter shooter) {
+        snapshots[back].capture(entities, shooter);
+        back = middle.getAndSet(back | FRESH) & ~FRESH;
+    }
+
+    /**
+     * @return the snapshot of the latest published tick. it is not changed until the next call.
+     */
+    RenderSnapshot latest() {
+        if ((middle.get() & FRESH) != 0)
+            front = middle.getAndSet(front) & ~FRESH;
+        return snapshots[front];
+    }
+}
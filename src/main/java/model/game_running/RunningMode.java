@@ -11,6 +11,7 @@ import model.game_running.runnables.CollisionRunnable;
 import model.game_running.runnables.EntityGeneratorRunnable;
 import model.game_running.runnables.GameRunnable;
 import model.game_running.runnables.MovementRunnable;
+import model.game_running.runnables.TickScheduler;
 import model.game_running.states.GameState;
 import model.game_running.states.PausedState;
 import model.game_running.states.ResumedState;
@@ -18,14 +19,19 @@ import model.game_space.Blender;
 import model.game_space.Player;
 import org.apache.log4j.Logger;
 import services.database.IDatabase;
+import services.metrics.GameMetrics;
+import services.utils.AudioEventQueue;
+import services.utils.GameClock;
 import services.utils.IOHandler;
 import services.utils.SoundHandler;
+import services.utils.SystemClock;
 
 import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The main control unit behind the game UI
@@ -41,7 +47,8 @@ public class RunningMode {
     GameState resumedState;
 
     //space objects
-    private final CopyOnWriteArrayList<AutonomousEntity> autonomousEntities;
+    private final EntityStore entityStore;
+    private final RenderSnapshotBuffer renderSnapshots = new RenderSnapshotBuffer();
     private ProjectileContainer projectileContainer;
     private Shooter shooter;
 
@@ -52,25 +59,56 @@ public class RunningMode {
     private final SessionSaveListener sessionSaveListener;
     private final OnGameStateListener onGameStateListener;
     // Runnables
-    private ArrayList<GameRunnable> gameRunnables;
+    private TickScheduler tickScheduler;
     private EntityGeneratorRunnable entityGeneratorRunnable;
     private boolean outOfEntities; // flags that the entity generator runnable has run out of entities to drop
+    // set once, by whichever thread ends the game first (the game loop or the UI shooting the last atom)
+    private final AtomicBoolean gameOver = new AtomicBoolean();
 
     // Threads
-    private Thread movementThread;
-    private Thread collisionThread;
-    private Thread entityGeneratorThread;
+    private Thread gameLoopThread;
 
     // Blender
     private final Blender blender;
 
+    // the queue of the sounds of the game, null when the listeners are called directly
+    private AudioEventQueue audioEventQueue;
+
     public RunningMode(RunningStateListener runningStateListener,
                        GameEntitiesListener gameEntitiesListener,
                        SessionLoadListener sessionLoadListener,
                        SessionSaveListener sessionSaveListener,
                        OnGameStateListener onGameStateListener) {
+        this(runningStateListener, gameEntitiesListener, sessionLoadListener, sessionSaveListener,
+                AudioEventQueue.start(new SoundHandler(), onGameStateListener));
+    }
+
+    // the sounds are played by the audio thread of the queue, the game threads only publish them
+    private RunningMode(RunningStateListener runningStateListener,
+                        GameEntitiesListener gameEntitiesListener,
+                        SessionLoadListener sessionLoadListener,
+                        SessionSaveListener sessionSaveListener,
+                        AudioEventQueue audioEventQueue) {
+        this(runningStateListener, gameEntitiesListener, sessionLoadListener, sessionSaveListener,
+                audioEventQueue, audioEventQueue, SystemClock.getInstance());
+        this.audioEventQueue = audioEventQueue;
+    }
 
-        autonomousEntities = new CopyOnWriteArrayList<>();
+    /**
+     * creates a running mode without any dependency on the UI. this is used to run the game headless.
+     *
+     * @param onCollisionListener notified of the collisions handled by the game
+     * @param clock               the clock that drives the game loop
+     */
+    public RunningMode(RunningStateListener runningStateListener,
+                       GameEntitiesListener gameEntitiesListener,
+                       SessionLoadListener sessionLoadListener,
+                       SessionSaveListener sessionSaveListener,
+                       OnGameStateListener onGameStateListener,
+                       CollisionHandler.OnCollisionListener onCollisionListener,
+                       GameClock clock) {
+
+        entityStore = new EntityStore();
         // Config
         Configuration config = Configuration.getInstance();
         // States
@@ -94,28 +132,23 @@ public class RunningMode {
         this.blender = new Blender(this.projectileContainer);
         this.shooter = new Shooter(this);
         this.onGameStateListener = onGameStateListener;
-        initialize();
+        initialize(onCollisionListener, clock);
     }
 
     /**
-     * instantiates the threads and runnables. fills the list. sets "initialized" to true
+     * instantiates the game systems and the scheduler thread that ticks them.
      */
-    private void initialize() {
-        gameRunnables = new ArrayList<>();
-
+    private void initialize(CollisionHandler.OnCollisionListener onCollisionListener, GameClock clock) {
         GameRunnable movementRunnable = new MovementRunnable(this);
-        gameRunnables.add(movementRunnable);
 
-        CollisionHandler collisionHandler = new CollisionHandler(this, new SoundHandler());
+        CollisionHandler collisionHandler = new CollisionHandler(this, onCollisionListener);
         GameRunnable collisionRunnable = new CollisionRunnable(this, collisionHandler);
-        gameRunnables.add(collisionRunnable);
 
         entityGeneratorRunnable = new EntityGeneratorRunnable(this);
-        gameRunnables.add(entityGeneratorRunnable);
 
-        movementThread = new Thread(movementRunnable);
-        collisionThread = new Thread(collisionRunnable);
-        entityGeneratorThread = new Thread(this.entityGeneratorRunnable);
+        // the order of the systems is the order in which they run every tick
+        tickScheduler = new TickScheduler(this, clock, movementRunnable, collisionRunnable, entityGeneratorRunnable);
+        gameLoopThread = new Thread(tickScheduler, "game-loop");
 
         try {
             onGameStateListener.onGameStart();
@@ -125,12 +158,11 @@ public class RunningMode {
     }
 
     /**
-     * starts the Movement, collision, shooter, and EntityGenerator threads
+     * starts the game loop thread which ticks the movement, collision, and EntityGenerator systems
      */
     public void startThreads() {
-        movementThread.start();
-        collisionThread.start();
-        entityGeneratorThread.start();
+        GameMetrics.getInstance().reset();
+        gameLoopThread.start();
     }
 
     // Shooter ////
@@ -197,20 +229,21 @@ public class RunningMode {
     // Space Entities ////
 
     /**
-     * static so that all classes
-     *
-     * @return returns the list of autonomous entities
+     * @return the autonomous entities as of the last completed tick. the list does not change while it is read.
      */
-    public CopyOnWriteArrayList<AutonomousEntity> getAutonomousEntities() {
-        return autonomousEntities;
+    public List<AutonomousEntity> getAutonomousEntities() {
+        return entityStore.snapshot();
+    }
+
+    public EntityStore getEntityStore() {
+        return entityStore;
     }
 
     /**
-     * @param entity the entity to be added to the list of entities
+     * @param entity the entity to be added to the list of entities at the end of the current tick
      */
     public void addEntity(AutonomousEntity entity) {
-        gameEntitiesListener.onEntityAdd(entity);
-        autonomousEntities.add(entity);
+        entityStore.add(entity);
     }
 
     /**
@@ -218,18 +251,33 @@ public class RunningMode {
      * @param entity to be removed
      */
     public void removeEntity(AutonomousEntity entity) {
-        // TODO: change the gamerListener to removeEntity. Handle multiple entities by calling removeEntity on them one by one.
-        ArrayList<AutonomousEntity> tmp = new ArrayList<>();
-        tmp.add(entity);
-        autonomousEntities.remove(entity);
-        gameEntitiesListener.onEntitiesRemove(tmp);
+        entityStore.remove(entity);
+    }
+
+    /**
+     * applies the entity additions and removals of the current tick and notifies the listener once for each,
+     * then publishes what the game view draws for this tick. called by the game loop at the end of a tick.
+     */
+    public void publishEntities() {
+        if (entityStore.publish()) {
+            if (!entityStore.getAdded().isEmpty())
+                gameEntitiesListener.onEntitiesAdd(entityStore.getAdded());
+            if (!entityStore.getRemoved().isEmpty())
+                gameEntitiesListener.onEntitiesRemove(entityStore.getRemoved());
+        }
+        renderSnapshots.publish(entityStore.snapshot(), shooter);
+    }
+
+    /**
+     * @return the state of the game as of the last completed tick, for drawing. only the render loop calls this,
+     * the snapshot stays the same until its next call.
+     */
+    public RenderSnapshot getRenderSnapshot() {
+        return renderSnapshots.latest();
     }
 
     public boolean noAtomsOnScreen() {
-        for (Entity entity : autonomousEntities)
-            if (entity.getSuperType() == SuperType.ATOM)
-                return false;
-        return true;
+        return entityStore.getCensus().count(SuperType.ATOM) == 0;
     }
 
     /**
@@ -237,10 +285,37 @@ public class RunningMode {
      * @return true if there is no entities other than atoms and shooter on the screen.
      */
     public boolean noEntitiesOnScreen() {
-        for (Entity entity : autonomousEntities)
-            if (entity.getSuperType() != SuperType.ATOM && entity.getSuperType() != SuperType.SHOOTER)
-                return false;
-        return true;
+        EntityCensus.Counts counts = entityStore.getCensus().counts();
+        return counts.total() == counts.count(SuperType.ATOM) + counts.count(SuperType.SHOOTER);
+    }
+
+    /**
+     * @return the live counts of the entities on the screen, listeners can subscribe to their changes
+     */
+    public EntityCensus getEntityCensus() {
+        return entityStore.getCensus();
+    }
+
+    /**
+     * @return the live counts of the molecules, blockers and power-ups left to drop
+     */
+    public EntityCensus getRemainingEntities() {
+        return entityGeneratorRunnable.getRemaining();
+    }
+
+    /**
+     * drops the entities of the game in the order the seed gives, the same seed drops the same entities at the same
+     * places. used by benchmarks and replays before the game starts.
+     */
+    public void setSpawnSeed(long seed) {
+        entityGeneratorRunnable.reseed(seed);
+    }
+
+    /**
+     * @param burstSize the number of entities dropped each time the drop rate allows
+     */
+    public void setBurstSize(int burstSize) {
+        entityGeneratorRunnable.setBurstSize(burstSize);
     }
 
     public void setOutOfEntities() {
@@ -252,6 +327,10 @@ public class RunningMode {
         this.player = player;
     }
 
+    public Player getPlayer() {
+        return player;
+    }
+
     /**
      * decrease the health of the player by a given damage amount.
      * @param damageAmount
@@ -313,14 +392,22 @@ public class RunningMode {
      */
     public void loadGameSession(GameBundle session) {
 
+        // the loaded state replaces the current one between two ticks
+        synchronized (tickScheduler.getTickLock()) {
+            applyGameSession(session);
+        }
+    }
+
+    private void applyGameSession(GameBundle session) {
         // update the game configuration
         Configuration.getInstance().reset(session.getConfigBundle());
         // update the entities in the game view
-        this.autonomousEntities.clear();
-        this.autonomousEntities.addAll(session.getAtoms());
-        this.autonomousEntities.addAll(session.getBlockers());
-        this.autonomousEntities.addAll(session.getMolecules());
-        this.autonomousEntities.addAll(session.getPowerUps());
+        List<AutonomousEntity> entities = new ArrayList<>();
+        entities.addAll(session.getAtoms());
+        entities.addAll(session.getBlockers());
+        entities.addAll(session.getMolecules());
+        entities.addAll(session.getPowerUps());
+        this.entityStore.reset(entities);
 
         // update the projectile containers
         this.projectileContainer = session.getProjectileContainer();
@@ -342,9 +429,8 @@ public class RunningMode {
 
         // reflect the changes in the UI
         gameEntitiesListener.onGameReset();
-        for (AutonomousEntity entity : this.autonomousEntities) {
-            gameEntitiesListener.onEntityAdd(entity);
-        }
+        gameEntitiesListener.onEntitiesAdd(this.entityStore.snapshot());
+        renderSnapshots.publish(entityStore.snapshot(), shooter);
 
     }
 
@@ -419,8 +505,8 @@ public class RunningMode {
      * Pauses/Resumes/Stops all runnables.
      */
     public void applyRunningState(int state) {
-        // set the state of game model threads
-        gameRunnables.forEach(runnable -> runnable.setRunnableState(state));
+        // set the state of the game loop
+        tickScheduler.setRunnableState(state);
         // set the state of the UI
         runningStateListener.onRunningStateChanged(state);
     }
@@ -441,14 +527,32 @@ public class RunningMode {
      * call for the end of the game
      */
     public void endGame() {
+        if (!gameOver.compareAndSet(false, true)) //the game can only end once
+            return;
         try {
             onGameStateListener.onGameOver();
         } catch (Exception e) {
             e.printStackTrace();
         }
 
+        // no more sounds after the game over music, the audio thread ends once it has started it
+        stopAudio();
+
         applyRunningState(GameConstants.GAME_STATE_STOP);
         runningStateListener.onGameOver();
+        GameMetrics.getInstance().dump();
+    }
+
+    /**
+     * stops the thread that plays the sounds of the game, after it delivers the sounds already published.
+     */
+    public void stopAudio() {
+        if (audioEventQueue != null)
+            audioEventQueue.stop();
+    }
+
+    public boolean isGameOver() {
+        return gameOver.get();
     }
 
     // Getters ////
@@ -477,6 +581,10 @@ public class RunningMode {
         return resumedState;
     }
 
+    public TickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
     public ShieldHandler getShieldHandler() {
         return shooter.getShieldHandler();
     }
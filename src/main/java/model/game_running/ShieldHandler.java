@@ -62,6 +62,13 @@ public class ShieldHandler {
         return new ShieldTuple(this.tempShields);
     }
 
+    /**
+     * @return true if the projectile on the shooter has shields, without copying them
+     */
+    public boolean hasTempShields() {
+        return tempShields.isNotEmpty();
+    }
+
     public void setTempShields(ShieldTuple shields) {
         this.tempShields = shields;
     }
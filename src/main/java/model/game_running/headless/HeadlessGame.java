@@ -0,0 +1,73 @@
+package model.game_running.headless;
+
+import model.game_building.ConfigBundle;
+import model.game_building.Configuration;
+import model.game_running.RunningMode;
+import model.game_running.runnables.TickScheduler;
+import model.game_space.Player;
+import org.apache.log4j.Logger;
+import services.metrics.GameMetrics;
+import services.utils.VirtualClock;
+
+/**
+ * Runs a complete game without any UI, sound or wall clock.
+ * The game loop runs on the calling thread against a {@link VirtualClock}, so a game that lasts minutes on screen
+ * is simulated as fast as the machine allows, tick for tick the same way the real game loop would run it.
+ */
+public class HeadlessGame {
+    private static final Logger logger = Logger.getLogger(HeadlessGame.class.getName());
+
+    private final RunningMode runningMode;
+    private final RecordingGameListener listener;
+    private final VirtualClock clock;
+
+    /**
+     * @param bundle              the configuration of the game. it replaces the current game configuration.
+     * @param gameLengthInMinutes the game timer of the player
+     */
+    public HeadlessGame(ConfigBundle bundle, double gameLengthInMinutes) {
+        Configuration.getInstance().reset(bundle);
+        listener = new RecordingGameListener();
+        clock = new VirtualClock();
+        runningMode = new RunningMode(listener, listener, listener, listener, listener, listener, clock);
+        runningMode.getShooter().setShooterListener(listener);
+        runningMode.setPlayer(new Player("headless", listener, gameLengthInMinutes));
+    }
+
+    /**
+     * @param bundle              the configuration of the game. it replaces the current game configuration.
+     * @param gameLengthInMinutes the game timer of the player
+     * @param spawnSeed           the seed of the drops, so that runs with the same seed drop the same entities
+     */
+    public HeadlessGame(ConfigBundle bundle, double gameLengthInMinutes, long spawnSeed) {
+        this(bundle, gameLengthInMinutes);
+        runningMode.setSpawnSeed(spawnSeed);
+    }
+
+    /**
+     * runs the game loop on the current thread until the game is over.
+     *
+     * @return the number of simulated ticks
+     */
+    public long run() {
+        TickScheduler scheduler = runningMode.getTickScheduler();
+        GameMetrics.getInstance().reset();
+        long start = System.nanoTime();
+        scheduler.run();
+        logger.info("[HeadlessGame] simulated " + scheduler.getCompletedTicks() + " ticks in " +
+                (System.nanoTime() - start) / 1000000 + " ms");
+        return scheduler.getCompletedTicks();
+    }
+
+    public RunningMode getRunningMode() {
+        return runningMode;
+    }
+
+    public RecordingGameListener getListener() {
+        return listener;
+    }
+
+    public VirtualClock getClock() {
+        return clock;
+    }
+}
@@ -0,0 +1,213 @@
+package model.game_running.headless;
+
+import model.game_building.GameBundle;
+import model.game_entities.AutonomousEntity;
+import model.game_running.CollisionHandler;
+import model.game_running.RunningMode;
+import model.game_running.listeners.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * a listener that stands in for the whole UI of the game. it does not draw or play anything, it only counts the
+ * events it receives so that headless runs can be inspected afterwards.
+ */
+public class RecordingGameListener implements RunningStateListener, GameEntitiesListener, SessionLoadListener,
+        SessionSaveListener, RunningMode.OnGameStateListener, CollisionHandler.OnCollisionListener,
+        GameStatisticsListener, ShooterEventListener {
+
+    private final Map<String, Integer> eventCounts = new HashMap<>();
+    private int entitiesOnScreen;
+    private int maxEntitiesOnScreen;
+    private double health;
+    private double score;
+    private String currentTime;
+
+    private synchronized void record(String event) {
+        eventCounts.merge(event, 1, Integer::sum);
+    }
+
+    /**
+     * @param event the name of the listener method, e.g. "onGameOver"
+     * @return the number of times the event was received
+     */
+    public synchronized int getEventCount(String event) {
+        return eventCounts.getOrDefault(event, 0);
+    }
+
+    public synchronized Map<String, Integer> getEventCounts() {
+        return new HashMap<>(eventCounts);
+    }
+
+    public synchronized int getEntitiesOnScreen() {
+        return entitiesOnScreen;
+    }
+
+    public synchronized int getMaxEntitiesOnScreen() {
+        return maxEntitiesOnScreen;
+    }
+
+    public synchronized double getHealth() {
+        return health;
+    }
+
+    public synchronized double getScore() {
+        return score;
+    }
+
+    public synchronized String getCurrentTime() {
+        return currentTime;
+    }
+
+    // RunningStateListener ////
+    @Override
+    public void onRunningStateChanged(int state) {
+        record("onRunningStateChanged");
+    }
+
+    /**
+     * shared by the RunningStateListener and the OnGameStateListener, so a finished game records it twice.
+     */
+    @Override
+    public void onGameOver() {
+        record("onGameOver");
+    }
+
+    // GameEntitiesListener ////
+    @Override
+    public synchronized void onEntitiesAdd(Collection<AutonomousEntity> entities) {
+        record("onEntitiesAdd");
+        entitiesOnScreen += entities.size();
+        maxEntitiesOnScreen = Math.max(maxEntitiesOnScreen, entitiesOnScreen);
+    }
+
+    @Override
+    public synchronized void onEntitiesRemove(Collection<AutonomousEntity> entities) {
+        record("onEntitiesRemove");
+        entitiesOnScreen -= entities.size();
+    }
+
+    @Override
+    public synchronized void onGameReset() {
+        record("onGameReset");
+        entitiesOnScreen = 0;
+    }
+
+    // SessionLoadListener and SessionSaveListener ////
+    @Override
+    public void onSessionListFetched(ArrayList<String> sessions) {
+        record("onSessionListFetched");
+    }
+
+    @Override
+    public void onSessionRetrieved(GameBundle bundle) {
+        record("onSessionRetrieved");
+    }
+
+    @Override
+    public void onLoadFailed(String errorMessage) {
+        record("onLoadFailed");
+    }
+
+    @Override
+    public void getSavedSessions() {
+        record("getSavedSessions");
+    }
+
+    @Override
+    public void showSaveMethodSelector() {
+        record("showSaveMethodSelector");
+    }
+
+    // OnGameStateListener ////
+    @Override
+    public void onGameStart() {
+        record("onGameStart");
+    }
+
+    @Override
+    public void onGamePaused() {
+        record("onGamePaused");
+    }
+
+    @Override
+    public void onGameResume() {
+        record("onGameResume");
+    }
+
+    @Override
+    public void onShoot() {
+        record("onShoot");
+    }
+
+    // OnCollisionListener ////
+    @Override
+    public void onShooterBlockerCollision() {
+        record("onShooterBlockerCollision");
+    }
+
+    @Override
+    public void onAtomMoleculeCollision() {
+        record("onAtomMoleculeCollision");
+    }
+
+    @Override
+    public void onShooterPowerupCollision() {
+        record("onShooterPowerupCollision");
+    }
+
+    @Override
+    public void onPowerupBlockerCollision() {
+        record("onPowerupBlockerCollision");
+    }
+
+    @Override
+    public void onAtomBlockerCollision() {
+        record("onAtomBlockerCollision");
+    }
+
+    // GameStatisticsListener ////
+    @Override
+    public synchronized void onHealthChanged(double health) {
+        this.health = health;
+    }
+
+    @Override
+    public synchronized void onTimerChanged(String currentTime) {
+        this.currentTime = currentTime;
+    }
+
+    @Override
+    public synchronized void onScoreChanged(double score) {
+        this.score = score;
+    }
+
+    @Override
+    public void onProjectileCountChange() {
+        record("onProjectileCountChange");
+    }
+
+    @Override
+    public void onShieldsCountChange() {
+        record("onShieldsCountChange");
+    }
+
+    // ShooterEventListener ////
+    @Override
+    public void onShot() {
+        record("onShot");
+    }
+
+    @Override
+    public void onMoved() {
+        record("onMoved");
+    }
+
+    @Override
+    public void onStopped() {
+        // called on every tick the shooter stands still, not worth recording
+    }
+}
@@ -0,0 +1,16 @@
+package model.game_running.listeners;
+
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+
+public interface CensusListener {
+    /**
+     * called on the game loop thread after a count of a census changed, never on the event dispatch thread.
+     * listeners that update the UI must hand the change over with {@code SwingUtilities.invokeLater}.
+     *
+     * @param superType  the super type whose count changed
+     * @param entityType the entity type whose count changed
+     * @param count      the new count of the super type and entity type
+     */
+    void onCountChanged(SuperType superType, EntityType entityType, int count);
+}
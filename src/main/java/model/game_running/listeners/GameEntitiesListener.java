@@ -5,8 +5,14 @@ import model.game_entities.AutonomousEntity;
 import java.util.Collection;
 
 public interface GameEntitiesListener {
-    void onEntityAdd(AutonomousEntity entity);
+    /**
+     * called once per tick with all the entities added in it. the collection is only valid during the call.
+     */
+    void onEntitiesAdd(Collection<AutonomousEntity> entities);
 
+    /**
+     * called once per tick with all the entities removed in it. the collection is only valid during the call.
+     */
     void onEntitiesRemove(Collection<AutonomousEntity> entities);
 
     /**
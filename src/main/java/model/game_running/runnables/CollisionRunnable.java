@@ -1,16 +1,22 @@
 package model.game_running.runnables;
 
+import model.game_building.ConfigSnapshot;
 import model.game_building.Configuration;
 import model.game_building.GameConstants;
 import model.game_entities.AutonomousEntity;
 import model.game_entities.Blocker;
+import model.game_entities.enums.SuperType;
+import model.game_physics.broadphase.SpatialHashGrid;
+import model.game_physics.hitbox.Hitbox;
+import model.game_running.CollisionMatrix;
 import model.game_running.CollisionVisitor;
+import model.game_running.EntityStore;
 import model.game_running.RunningMode;
 import services.utils.Coordinates;
 import services.utils.Vector;
 
-import java.util.ArrayList;
-import java.util.concurrent.CountDownLatch;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * This runnable handles collisions between entities.
@@ -18,71 +24,110 @@ import java.util.concurrent.CountDownLatch;
 public class CollisionRunnable extends GameRunnable {
 
     private final RunningMode runningMode;
-    Configuration config;
     private final CollisionVisitor collisionHandler;
-    private final CountDownLatch latch;
+    private final CollisionMatrix collisionMatrix;
+    private final SpatialHashGrid<AutonomousEntity> grid;
+    private final BiConsumer<AutonomousEntity, AutonomousEntity> entityPairCheck = this::entityPairCheck;
+    private static final Vector RIGHT_BORDER_NORMAL = new Vector(new Coordinates(1, 0));
+    private static final Vector LEFT_BORDER_NORMAL = new Vector(new Coordinates(-1, 0));
+    // the boundary points of the entity being checked against the side borders, reused every tick
+    private double[] boundaryPoints = new double[0];
 
     public CollisionRunnable(RunningMode runningMode, CollisionVisitor collisionHandler) {
         super();
         this.runningMode = runningMode;
-        this.latch = new CountDownLatch(0);
         this.collisionHandler = collisionHandler;
-        config = Configuration.getInstance();
+        this.collisionMatrix = CollisionMatrix.of(collisionHandler);
+        ConfigSnapshot config = Configuration.snapshot();
+        grid = new SpatialHashGrid<>(config.getGamePanelWidth(), config.getGamePanelHeight(), gridCellSize(config));
     }
 
     @Override
-    public void run() {
-        running = true;
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                for (AutonomousEntity sourceEntity : runningMode.getAutonomousEntities()) {
-                    for (AutonomousEntity targetEntity : runningMode.getAutonomousEntities()) {
-                        entityEntityCheck(sourceEntity, targetEntity);
-                    }
-                    // check if the entity collided with the shooter
-                    entityShooterCheck(sourceEntity);
-                    // check if the entity left the game view from and end boundary (top bottom)
-                    entityEndBoundaryCheck(sourceEntity);
-                    // check if the entity collided with a side boundary
-                    entitySideBoundaryCheck(sourceEntity);
-                }
-
-                // TODO make the collision delay more than the movement delay
-                Thread.sleep(GameConstants.GAME_THREAD_DELAY);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+    public void tick() {
+        // the snapshot does not change during the tick, removals are applied when the tick is published
+        List<AutonomousEntity> entities = runningMode.getAutonomousEntities();
+
+        // the configuration is read once per tick, a loaded game replaces it between two ticks
+        ConfigSnapshot config = Configuration.snapshot();
+
+        // only entities that share a grid cell can collide with each other
+        grid.resize(config.getGamePanelWidth(), config.getGamePanelHeight(), gridCellSize(config));
+        grid.rebuild(entities);
+        grid.forEachCandidatePair(entityPairCheck);
+
+        EntityStore store = runningMode.getEntityStore();
+        for (int i = 0; i < entities.size(); i++) {
+            AutonomousEntity sourceEntity = entities.get(i);
+            if (store.isPendingRemoval(sourceEntity))
+                continue;
+            // check if the entity collided with the shooter
+            entityShooterCheck(sourceEntity);
+            // check if the entity left the game view from and end boundary (top bottom)
+            entityEndBoundaryCheck(sourceEntity, config);
+            // check if the entity collided with a side boundary
+            entitySideBoundaryCheck(sourceEntity, config);
         }
     }
 
-    private void entityEntityCheck(AutonomousEntity sourceEntity, AutonomousEntity targetEntity) {
-        if (sourceEntity == targetEntity) //don't collision check an entity with itself
+    /**
+     * the grid cells are as large as the largest hitbox in the game, the exploding hitbox of the blockers.
+     */
+    private static double gridCellSize(ConfigSnapshot config) {
+        return Math.max(1, config.getUnitL() * GameConstants.BLOCKER_EXPLOSION_RADIUS);
+    }
+
+    /**
+     * a pair is only checked in the directions the collision handler reacts to. collisions are not symmetric
+     * (e.g. the exploding hitbox of a blocker), so the source of the check is the entity that handles it.
+     */
+    private void entityPairCheck(AutonomousEntity firstEntity, AutonomousEntity secondEntity) {
+        if (isRemoved(firstEntity) || isRemoved(secondEntity))
             return;
+        if (collisionMatrix.interacts(firstEntity.getSuperType(), secondEntity.getSuperType()))
+            entityEntityCheck(firstEntity, secondEntity);
+        if (!isRemoved(firstEntity) && !isRemoved(secondEntity) &&
+                collisionMatrix.interacts(secondEntity.getSuperType(), firstEntity.getSuperType()))
+            entityEntityCheck(secondEntity, firstEntity);
+    }
+
+    /**
+     * an entity removed earlier in this tick is still in the snapshot but must not collide again.
+     */
+    private boolean isRemoved(AutonomousEntity entity) {
+        return runningMode.getEntityStore().isPendingRemoval(entity);
+    }
+
+    private void entityEntityCheck(AutonomousEntity sourceEntity, AutonomousEntity targetEntity) {
         if (sourceEntity.isCollidedWith(targetEntity))
             sourceEntity.acceptCollision(collisionHandler, targetEntity);
     }
 
     private void entityShooterCheck(AutonomousEntity sourceEntity) {
-        if (sourceEntity.isCollidedWith(runningMode.getShooter()))
+        if (collisionMatrix.interacts(sourceEntity.getSuperType(), SuperType.SHOOTER) &&
+                sourceEntity.isCollidedWith(runningMode.getShooter()))
             sourceEntity.acceptCollision(collisionHandler, runningMode.getShooter());
     }
 
-    private void entityEndBoundaryCheck(AutonomousEntity sourceEntity) {
+    private void entityEndBoundaryCheck(AutonomousEntity sourceEntity, ConfigSnapshot config) {
         if (sourceEntity.getCoordinates().getY() < 0 ||
-                sourceEntity.getCoordinates().getY() > config.getGamePanelDimensions().height - config.getBaseHeight())
+                sourceEntity.getCoordinates().getY() > config.getGamePanelHeight() - config.getBaseHeight())
             sourceEntity.reachBoundary(this);
     }
 
-    private void entitySideBoundaryCheck(AutonomousEntity sourceEntity) {
-        ArrayList<Coordinates> coords = sourceEntity.getBoundaryPoints();
-        for (Coordinates coord : coords) {
-            if (coord.getX() > config.getGamePanelDimensions().width) {
-                sourceEntity.getPathPattern().reflect(new Vector(new Coordinates(1, 0)));
+    private void entitySideBoundaryCheck(AutonomousEntity sourceEntity, ConfigSnapshot config) {
+        Hitbox hitbox = sourceEntity.getHitbox();
+        int count = hitbox.getBoundaryPointCount();
+        if (boundaryPoints.length < 2 * count)
+            boundaryPoints = new double[2 * count];
+        hitbox.getBoundaryPoints(sourceEntity.getCoordinates(), boundaryPoints);
+        for (int i = 0; i < count; i++) {
+            double x = boundaryPoints[2 * i];
+            if (x > config.getGamePanelWidth()) {
+                sourceEntity.getPathPattern().reflect(RIGHT_BORDER_NORMAL);
                 GameRunnable.logger.debug("[CollisionRunnable] entity collided with the left boarder");
             }
-            if (coord.getX() < 0) {
-                sourceEntity.getPathPattern().reflect(new Vector(new Coordinates(-1, 0)));
+            if (x < 0) {
+                sourceEntity.getPathPattern().reflect(LEFT_BORDER_NORMAL);
                 GameRunnable.logger.debug("[CollisionRunnable] entity collided with the right boarder");
             }
         }
@@ -96,8 +141,11 @@ public class CollisionRunnable extends GameRunnable {
         if (blocker.isCollidedWithExplodingHitbox(runningMode.getShooter())) {
             blocker.acceptCollision(collisionHandler, runningMode.getShooter());
         }
-        for (AutonomousEntity entity : runningMode.getAutonomousEntities()) {
-            if (blocker.isCollidedWithExplodingHitbox(entity))
+        List<AutonomousEntity> entities = runningMode.getAutonomousEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            AutonomousEntity entity = entities.get(i);
+            if (!isRemoved(entity) && collisionMatrix.interacts(SuperType.BLOCKER, entity.getSuperType()) &&
+                    blocker.isCollidedWithExplodingHitbox(entity))
                 blocker.acceptCollision(collisionHandler, entity);
         }
         runningMode.removeEntity(blocker);
@@ -3,179 +3,152 @@ package model.game_running.runnables;
 import model.game_building.Configuration;
 import model.game_building.GameConstants;
 import model.game_entities.AutonomousEntity;
-import model.game_entities.Blocker;
-import model.game_entities.Molecule;
-import model.game_entities.Powerup;
 import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
 import model.game_entities.factories.BlockerFactory;
 import model.game_entities.factories.MoleculeFactory;
 import model.game_entities.factories.PowerupFactory;
+import model.game_running.EntityCensus;
 import model.game_running.RunningMode;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
 
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Random;
 
 /**
  * responsible for creating blockers, and powerups, molecules in the game space
  */
 public class EntityGeneratorRunnable extends GameRunnable {
-    private Map<EntityType, Integer> moleculeCountPerType, blockerCountPerType, powerUpCountPerType;
+    private final EntityCensus remaining = new EntityCensus(); // the entities left to drop per kind and type
     private final RunningMode runningMode;
+    private long seed;
+    private SpawnDeck deck;
+    private int burstSize = 1; // the number of entities dropped at once
+    private int ticksUntilDrop; //number of ticks left before the next entity is dropped.
+    private boolean outOfEntities;
     private static final Logger logger = Logger.getLogger(EntityGeneratorRunnable.class.getName());
 
     public EntityGeneratorRunnable(RunningMode runningMode) {
+        this(runningMode, new Random().nextLong());
+    }
+
+    /**
+     * @param seed the seed of the drops, the same configuration and seed drop the same entities at the same places
+     */
+    public EntityGeneratorRunnable(RunningMode runningMode, long seed) {
         super();
         this.runningMode = runningMode;
+        this.seed = seed;
         initializeMaps();
     }
 
     /**
-     * fills the counting maps for molecules, blockers, power-ups
+     * fills the counts of the molecules, blockers, power-ups left to drop and works out the order they are dropped in
      */
     public void initializeMaps() {
-        //fill molecule count map
-        moleculeCountPerType = new HashMap<>();
-        moleculeCountPerType.put(EntityType.ALPHA, Configuration.getInstance().getNumAlphaMolecules());
-        moleculeCountPerType.put(EntityType.BETA, Configuration.getInstance().getNumBetaMolecules());
-        moleculeCountPerType.put(EntityType.GAMMA, Configuration.getInstance().getNumGammaMolecules());
-        moleculeCountPerType.put(EntityType.SIGMA, Configuration.getInstance().getNumSigmaMolecules());
-
-        //fill blocker count map
-        blockerCountPerType = new HashMap<>();
-        blockerCountPerType.put(EntityType.ALPHA, Configuration.getInstance().getNumAlphaBlockers());
-        blockerCountPerType.put(EntityType.BETA, Configuration.getInstance().getNumBetaBlockers());
-        blockerCountPerType.put(EntityType.GAMMA, Configuration.getInstance().getNumGammaBlockers());
-        blockerCountPerType.put(EntityType.SIGMA, Configuration.getInstance().getNumSigmaBlockers());
-
-        //fill power-up count map
-        powerUpCountPerType = new HashMap<>();
-        powerUpCountPerType.put(EntityType.ALPHA, Configuration.getInstance().getNumAlphaPowerups());
-        powerUpCountPerType.put(EntityType.BETA, Configuration.getInstance().getNumBetaPowerups());
-        powerUpCountPerType.put(EntityType.GAMMA, Configuration.getInstance().getNumGammaPowerups());
-        powerUpCountPerType.put(EntityType.SIGMA, Configuration.getInstance().getNumSigmaPowerups());
+        outOfEntities = false;
+        Configuration config = Configuration.getInstance();
+        remaining.clear();
+        //fill molecule counts
+        setRemaining(SuperType.MOLECULE, EntityType.ALPHA, config.getNumAlphaMolecules());
+        setRemaining(SuperType.MOLECULE, EntityType.BETA, config.getNumBetaMolecules());
+        setRemaining(SuperType.MOLECULE, EntityType.GAMMA, config.getNumGammaMolecules());
+        setRemaining(SuperType.MOLECULE, EntityType.SIGMA, config.getNumSigmaMolecules());
+
+        //fill blocker counts
+        setRemaining(SuperType.BLOCKER, EntityType.ALPHA, config.getNumAlphaBlockers());
+        setRemaining(SuperType.BLOCKER, EntityType.BETA, config.getNumBetaBlockers());
+        setRemaining(SuperType.BLOCKER, EntityType.GAMMA, config.getNumGammaBlockers());
+        setRemaining(SuperType.BLOCKER, EntityType.SIGMA, config.getNumSigmaBlockers());
+
+        //fill power-up counts
+        setRemaining(SuperType.POWERUP, EntityType.ALPHA, config.getNumAlphaPowerups());
+        setRemaining(SuperType.POWERUP, EntityType.BETA, config.getNumBetaPowerups());
+        setRemaining(SuperType.POWERUP, EntityType.GAMMA, config.getNumGammaPowerups());
+        setRemaining(SuperType.POWERUP, EntityType.SIGMA, config.getNumSigmaPowerups());
+        remaining.commit();
+        deck = SpawnDeck.build(remaining.counts(), config.getSnapshot(), seed);
     }
 
-    @Override
-    public void run() {
-        running = true;
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                List<Integer> randomTypes = new ArrayList<>();
-                if (moleculeCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(0);
-                if (blockerCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(1);
-                if (powerUpCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(2);
-
-                Collections.shuffle(randomTypes);
-                if (randomTypes.isEmpty()) {
-                    logger.info("[EntityGeneratorRunnable] OUT OF ENTITIES TO DROP");
-                    runningMode.setOutOfEntities();
-                    break;
-                } else {
-                    AutonomousEntity entity = GetRandomEntity(randomTypes.get(0));
-                    this.runningMode.addEntity(entity);
-                    //sleep before adding new objects
-                    Thread.sleep(Configuration.getInstance().getDropRate());
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-    }
-
-    private AutonomousEntity GetRandomEntity(int choice) {
-
-        switch (choice) {
-            case 0:
-                return generateMolecule();
-            case 1:
-                return generateBlocker();
-            case 2:
-                return generatePowerup();
-            default:
-                return null;
-        }
+    private void setRemaining(SuperType kind, EntityType type, int count) {
+        remaining.set(kind, type, Math.max(0, count)); // the configuration counts are -1 when it is not set
     }
 
     /**
-     * generates a random Blocker to be thrown in the space
+     * drops the entities of the current configuration again, in the order the seed gives.
      *
-     * @return a Blocker of a random type
+     * @param seed the seed of the drops
      */
-    public Blocker generateBlocker() {
-        List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
-                .filter(c -> blockerCountPerType.get(EntityType.forValue(c)) > 0)
-                .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
-
-        if (randomTypes.isEmpty())
-            return null; //no more blockers
-
-        double l = GameConstants.BLOCKER_RADIUS * Configuration.getInstance().getUnitL();
-        double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.BLOCKER_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
-        logger.info("[ObjectGeneratorRunnable] generating a blocker at coordinates " + new Coordinates(x_coord, 0) + " ]");
-
-        Blocker blocker = BlockerFactory.getInstance().getBlocker(EntityType.forValue(randomTypes.get(0)));
-        blockerCountPerType.replace(blocker.getEntityType(), blockerCountPerType.get(blocker.getEntityType()) - 1);
-        blocker.setCoordinates(new Coordinates(x_coord, 1));
-        return blocker;
+    public void reseed(long seed) {
+        this.seed = seed;
+        initializeMaps();
+    }
+
+    public long getSeed() {
+        return seed;
     }
 
     /**
-     * generates a random powerup to be thrown in the space
-     *
-     * @return a Powerup of a random type
+     * @param burstSize the number of entities dropped each time the drop rate allows, at least one
      */
-    public Powerup generatePowerup() {
-        List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
-                .filter(c -> powerUpCountPerType.get(EntityType.forValue(c)) > 0)
-                .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
-
-        if (randomTypes.isEmpty())
-            return null; //no more powerups
-
-        double l = GameConstants.POWERUP_RADIUS * Configuration.getInstance().getUnitL();
-        double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.POWERUP_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
-        logger.info("[ObjectGenerator: generating a powerup at coordinates " + new Coordinates(x_coord, 0) + " ]");
-
-        Powerup powerup = PowerupFactory.getInstance().getPowerup(EntityType.forValue(randomTypes.get(0)));
-        powerUpCountPerType.replace(powerup.getEntityType(), powerUpCountPerType.get(powerup.getEntityType()) - 1);
-        powerup.setCoordinates(new Coordinates(x_coord, 0));
-        return powerup;
+    public void setBurstSize(int burstSize) {
+        if (burstSize < 1)
+            throw new IllegalArgumentException("the burst size must be at least 1, it is " + burstSize);
+        this.burstSize = burstSize;
     }
 
     /**
-     * generates a random Molecule to be thrown in the space
-     *
-     * @return a Molecule of a random type
+     * @return the live counts of the entities left to drop
      */
-    public Molecule generateMolecule() {
-        List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
-                .filter(c -> moleculeCountPerType.get(EntityType.forValue(c)) > 0)
-                .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
-
-        if (randomTypes.isEmpty())
-            return null; //no more power-ups
-
-        double l = GameConstants.MOLECULE_RADIUS * Configuration.getInstance().getUnitL();
-        double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.MOLECULE_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
-        logger.info("[ObjectGenerator: generating a molecule at coordinates " + new Coordinates(x_coord, 0) + " ]");
+    public EntityCensus getRemaining() {
+        return remaining;
+    }
 
-        Molecule molecule = MoleculeFactory.getInstance().getMolecule(EntityType.forValue(randomTypes.get(0)));
-        moleculeCountPerType.replace(molecule.getEntityType(), moleculeCountPerType.get(molecule.getEntityType()) - 1);
-        molecule.setCoordinates(new Coordinates(x_coord, 0));
+    @Override
+    public void tick() {
+        if (outOfEntities)
+            return;
+        if (ticksUntilDrop-- > 0) //wait for the drop rate before adding new objects
+            return;
+        ticksUntilDrop = Math.max(1, Configuration.getInstance().getDropRate() / GameConstants.GAME_THREAD_DELAY) - 1;
+
+        if (!deck.hasNext()) {
+            logger.info("[EntityGeneratorRunnable] OUT OF ENTITIES TO DROP");
+            outOfEntities = true;
+            runningMode.setOutOfEntities();
+            return;
+        }
+        for (int i = 0; i < burstSize && deck.hasNext(); i++)
+            this.runningMode.addEntity(createEntity(deck.next()));
+        remaining.commit(); // the whole burst is published at once
+    }
 
-        return molecule;
+    /**
+     * creates the entity of a drop of the deck at the top of the game space and counts it out of the entities
+     * left to drop. the count is committed after the burst.
+     */
+    private AutonomousEntity createEntity(int drop) {
+        SuperType kind = deck.getKind(drop);
+        EntityType type = deck.getType(drop);
+        double x_coord = deck.getXCoordinate(drop);
+        logger.info("[EntityGeneratorRunnable] generating a " + type + " " + kind + " at x " + x_coord);
+
+        AutonomousEntity entity;
+        switch (kind) {
+            case MOLECULE:
+                entity = MoleculeFactory.getInstance().getMolecule(type);
+                entity.setCoordinates(new Coordinates(x_coord, 0));
+                break;
+            case BLOCKER:
+                entity = BlockerFactory.getInstance().getBlocker(type);
+                entity.setCoordinates(new Coordinates(x_coord, 1));
+                break;
+            default:
+                entity = PowerupFactory.getInstance().getPowerup(type);
+                entity.setCoordinates(new Coordinates(x_coord, 0));
+                break;
+        }
+        remaining.change(kind, type, -1);
+        return entity;
     }
 }
@@ -6,8 +6,11 @@ import org.apache.log4j.Logger;
 
 import java.util.concurrent.CountDownLatch;
 
-public abstract class GameRunnable implements Runnable {
-    protected boolean running;
+/**
+ * A game subsystem that is advanced one fixed step at a time by the {@link TickScheduler}.
+ */
+public abstract class GameRunnable {
+    protected volatile boolean running;
     protected CountDownLatch latch; //this latch will clog all runnables when the game is paused.
     public static Logger logger = Logger.getLogger(GameRunnable.class.getName());
 
@@ -15,6 +18,11 @@ public abstract class GameRunnable implements Runnable {
         latch = new CountDownLatch(0);
     }
 
+    /**
+     * advances the runnable by a single game tick. ticks are always executed by the scheduler thread, in a fixed order.
+     */
+    public abstract void tick();
+
     public void setRunnableState(int state) {
         switch (state) {
             case GameConstants.GAME_STATE_PAUSED:
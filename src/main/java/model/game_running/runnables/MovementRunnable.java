@@ -1,7 +1,6 @@
 package model.game_running.runnables;
 
-import model.game_building.GameConstants;
-import model.game_entities.AutonomousEntity;
+import model.game_physics.MovementKernel;
 import model.game_running.RunningMode;
 
 
@@ -11,6 +10,7 @@ import model.game_running.RunningMode;
 public class MovementRunnable extends GameRunnable {
 
     private final RunningMode runningMode;
+    private final MovementKernel movementKernel = new MovementKernel();
 
     public MovementRunnable(RunningMode runningMode) {
         super();
@@ -18,20 +18,9 @@ public class MovementRunnable extends GameRunnable {
     }
 
     @Override
-    public void run() {
-        running = true; //this will be set to false from somewhere else (when the game ends).
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                // move all entities in the space
-                runningMode.getShooter().move();
-                for (AutonomousEntity entity : runningMode.getAutonomousEntities())
-                    entity.move();
-
-                Thread.sleep(GameConstants.GAME_THREAD_DELAY);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+    public void tick() {
+        // move all entities in the space
+        runningMode.getShooter().move();
+        movementKernel.move(runningMode.getAutonomousEntities());
     }
 }
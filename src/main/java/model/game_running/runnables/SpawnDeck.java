@@ -0,0 +1,133 @@
+package model.game_running.runnables;
+
+import model.game_building.ConfigSnapshot;
+import model.game_building.GameConstants;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_running.EntityCensus;
+
+import java.util.SplittableRandom;
+
+/**
+ * the whole sequence of drops of a game, worked out before the game starts: the kind, type and x coordinate of every
+ * molecule, blocker and power-up in the order they fall. each drop picks a kind among the kinds with entities left,
+ * then a type among the types of that kind with entities left, every choice equally likely, so the sequence has
+ * the same odds as choosing at every drop. the same counts and seed always give the same sequence. taking the next
+ * drop is a cursor move.
+ */
+public class SpawnDeck {
+
+    // the kinds of entities that are dropped
+    static final SuperType[] KINDS = {SuperType.MOLECULE, SuperType.BLOCKER, SuperType.POWERUP};
+    private static final EntityType[] TYPES = EntityType.values();
+
+    private final byte[] kinds;
+    private final byte[] types;
+    private final double[] xCoordinates;
+    private int next;
+
+    private SpawnDeck(int size) {
+        kinds = new byte[size];
+        types = new byte[size];
+        xCoordinates = new double[size];
+    }
+
+    /**
+     * @param remaining the number of entities to drop per kind and type
+     * @param config    the configuration that decides where the entities can fall
+     * @param seed      the seed of the random choices
+     * @return the drops of the given entities
+     */
+    public static SpawnDeck build(EntityCensus.Counts remaining, ConfigSnapshot config, long seed) {
+        int[][] counts = new int[KINDS.length][TYPES.length];
+        int[] kindCounts = new int[KINDS.length];
+        int size = 0;
+        for (int kind = 0; kind < KINDS.length; kind++) {
+            for (int type = 0; type < TYPES.length; type++) {
+                counts[kind][type] = remaining.count(KINDS[kind], TYPES[type]);
+                kindCounts[kind] += counts[kind][type];
+            }
+            size += kindCounts[kind];
+        }
+
+        SpawnDeck deck = new SpawnDeck(size);
+        SplittableRandom random = new SplittableRandom(seed); // unlike Random, close seeds give unrelated sequences
+        for (int drop = 0; drop < size; drop++) {
+            int kind = pick(kindCounts, random);
+            int type = pick(counts[kind], random);
+            kindCounts[kind]--;
+            counts[kind][type]--;
+            double radius = radiusOf(KINDS[kind]) * config.getUnitL();
+            double l = radius;
+            double r = config.getGamePanelWidth() - radius;
+            deck.kinds[drop] = (byte) kind;
+            deck.types[drop] = (byte) type;
+            deck.xCoordinates[drop] = l + random.nextDouble() * (r - l);
+        }
+        return deck;
+    }
+
+    /**
+     * @return an index whose count is not zero, every such index equally likely
+     */
+    private static int pick(int[] counts, SplittableRandom random) {
+        int available = 0;
+        for (int count : counts)
+            if (count > 0)
+                available++;
+        int choice = random.nextInt(available);
+        for (int i = 0; i < counts.length; i++)
+            if (counts[i] > 0 && choice-- == 0)
+                return i;
+        throw new IllegalStateException("no count left to pick");
+    }
+
+    private static double radiusOf(SuperType kind) {
+        switch (kind) {
+            case MOLECULE:
+                return GameConstants.MOLECULE_RADIUS;
+            case BLOCKER:
+                return GameConstants.BLOCKER_RADIUS;
+            default:
+                return GameConstants.POWERUP_RADIUS;
+        }
+    }
+
+    public boolean hasNext() {
+        return next < kinds.length;
+    }
+
+    /**
+     * takes the next drop of the deck.
+     *
+     * @return the index of the drop, to read its kind, type and x coordinate with
+     */
+    public int next() {
+        if (next >= kinds.length)
+            throw new IllegalStateException("the deck is empty");
+        return next++;
+    }
+
+    public SuperType getKind(int drop) {
+        return KINDS[kinds[drop]];
+    }
+
+    public EntityType getType(int drop) {
+        return TYPES[types[drop]];
+    }
+
+    public double getXCoordinate(int drop) {
+        return xCoordinates[drop];
+    }
+
+    public int size() {
+        return kinds.length;
+    }
+
+    /**
+     * @return the number of drops not taken yet
+     */
+    public int remaining() {
+        return kinds.length - next;
+    }
+}
@@ -0,0 +1,136 @@
+package model.game_running.runnables;
+
+import model.game_building.GameConstants;
+import model.game_running.RunningMode;
+import services.metrics.GameMetrics;
+import services.metrics.TimingRecorder;
+import services.utils.GameClock;
+import services.utils.SystemClock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the whole simulation from a single thread with a fixed timestep.
+ * Every tick runs the game systems in a deterministic order (movement, collision, generation) and then updates
+ * the game timer and checks for the end of the game. If the thread falls behind, up to
+ * {@link GameConstants#MAX_CATCH_UP_TICKS} ticks are simulated back to back, any remaining lag is dropped.
+ * Time is read from a {@link GameClock}, so the same loop can run against the wall clock or a virtual one.
+ */
+public class TickScheduler extends GameRunnable implements Runnable {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.GAME_THREAD_DELAY);
+
+    private final RunningMode runningMode;
+    private final GameClock clock;
+    private final List<GameRunnable> systems;
+    private final Object tickLock = new Object(); // held while a tick mutates the game state
+    private final TimingRecorder[] systemTimings;
+    private final TimingRecorder publishTiming;
+    private final TimingRecorder tickTiming;
+
+    // statistics, only written by the scheduler thread
+    private volatile long completedTicks;
+    private volatile long caughtUpTicks;
+    private volatile long skippedTicks;
+
+    public TickScheduler(RunningMode runningMode, GameRunnable... systems) {
+        this(runningMode, SystemClock.getInstance(), systems);
+    }
+
+    public TickScheduler(RunningMode runningMode, GameClock clock, GameRunnable... systems) {
+        super();
+        this.runningMode = runningMode;
+        this.clock = clock;
+        this.systems = Arrays.asList(systems);
+        GameMetrics metrics = GameMetrics.getInstance();
+        this.systemTimings = new TimingRecorder[systems.length];
+        for (int i = 0; i < systems.length; i++)
+            systemTimings[i] = metrics.recorder(systems[i].getClass().getSimpleName());
+        this.publishTiming = metrics.recorder(GameMetrics.ENTITY_PUBLISH);
+        this.tickTiming = metrics.recorder(GameMetrics.TICK);
+    }
+
+    @Override
+    public void run() {
+        running = true; //this will be set to false from somewhere else (when the game ends).
+        long previousTime = clock.nanoTime();
+        long lag = 0;
+        while (running) {
+            try {
+                if (latch.getCount() > 0) {
+                    latch.await(); // if the game is paused, this latch clogs this runnable.
+                    previousTime = clock.nanoTime(); // the paused time should not be simulated
+                }
+                long currentTime = clock.nanoTime();
+                lag += currentTime - previousTime;
+                previousTime = currentTime;
+
+                int steps = 0;
+                while (running && lag >= TICK_NANOS && steps < GameConstants.MAX_CATCH_UP_TICKS) {
+                    tick();
+                    lag -= TICK_NANOS;
+                    steps++;
+                }
+                if (steps > 1)
+                    caughtUpTicks += steps - 1;
+                if (lag >= TICK_NANOS) { // too far behind, drop the whole ticks instead of spiraling
+                    long dropped = lag / TICK_NANOS;
+                    skippedTicks += dropped;
+                    lag -= dropped * TICK_NANOS;
+                    logger.debug("[TickScheduler] dropped " + dropped + " ticks");
+                }
+
+                clock.sleep(TICK_NANOS - lag);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }
+        logger.info("[TickScheduler] stopped after " + completedTicks + " ticks (" + caughtUpTicks +
+                " caught up, " + skippedTicks + " skipped)");
+    }
+
+    /**
+     * runs all game systems once, in order, and publishes the entity changes of the tick, followed by the timer
+     * update and the end of game check. every step is timed with the wall clock, whatever the game clock is.
+     */
+    @Override
+    public void tick() {
+        synchronized (tickLock) {
+            long tickStart = System.nanoTime();
+            for (int i = 0; i < systems.size(); i++) {
+                long start = System.nanoTime();
+                systems.get(i).tick();
+                systemTimings[i].recordSince(start);
+            }
+            long publishStart = System.nanoTime();
+            runningMode.publishEntities();
+            publishTiming.recordSince(publishStart);
+            runningMode.updateTimer(GameConstants.GAME_THREAD_DELAY);
+            tickTiming.recordSince(tickStart);
+            if (!runningMode.isGameOver() && runningMode.isGameFinished())
+                runningMode.endGame();
+            completedTicks++;
+        }
+    }
+
+    /**
+     * the lock held while a tick is being simulated. renderers can hold it to read a consistent game state.
+     */
+    public Object getTickLock() {
+        return tickLock;
+    }
+
+    public long getCompletedTicks() {
+        return completedTicks;
+    }
+
+    public long getCaughtUpTicks() {
+        return caughtUpTicks;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+}
@@ -27,14 +27,17 @@ public class Blender {
      * @param sourceAtom       The atom to be blended
      * @param destinationAtom  The result atom
      * @param numOfConversions The number of the desired atom.
+     * @return the number of conversions that happened.
      */
-    public void convert(int sourceAtom, int destinationAtom, int numOfConversions) throws Exception {
+    public int convert(int sourceAtom, int destinationAtom, int numOfConversions) throws Exception {
+        int conversions = 0;
         if (sourceAtom > destinationAtom) {
-            breakAtoms(sourceAtom, destinationAtom, numOfConversions);
+            conversions = breakAtoms(sourceAtom, destinationAtom, numOfConversions);
         } else if (sourceAtom < destinationAtom) {
-            blendAtoms(sourceAtom, destinationAtom, numOfConversions);
+            conversions = blendAtoms(sourceAtom, destinationAtom, numOfConversions);
         }
         blenderListener.onBlend();
+        return conversions;
     }
 
     /**
@@ -43,21 +46,17 @@ public class Blender {
      * @param sourceAtom       The atom to be blended.
      * @param destinationAtom  The result atom.
      * @param numOfConversions The number of the desired atom.
+     * @return the number of conversions that happened.
      */
-    public void blendAtoms(int sourceAtom, int destinationAtom, int numOfConversions) throws ContainerNotInitializedException {
+    public int blendAtoms(int sourceAtom, int destinationAtom, int numOfConversions) throws ContainerNotInitializedException {
         //MODIFIES: projectileContainer
         //EFFECTS:if the projectileContainer has enough atoms to blend it decreases the number of sourceAtom by a
-        // certain number, and increases the number of destinationAtoms in projectile container, and does nothing when
-        // there is not enough sourceAtoms to blend into destinationAtoms.
+        // certain number, and increases the number of destinationAtoms in projectile container, as many times as
+        // there are enough sourceAtoms for, up to numOfConversions times.
         if (this.projectileContainer == null)
             throw new ContainerNotInitializedException();
-        boolean canBlend;
-        for (int i = 0; i < numOfConversions; i++) {
-            canBlend = projectileContainer.decreaseAtoms(sourceAtom, (int) GameConstants.BLENDING_MATRIX[sourceAtom][destinationAtom]);
-            if (!canBlend)
-                break;
-            projectileContainer.increaseAtoms(destinationAtom, 1, null);
-        }
+        return projectileContainer.convertAtoms(sourceAtom, GameConstants.BLENDING_MATRIX[sourceAtom][destinationAtom],
+                destinationAtom, 1, numOfConversions);
     }
 
     /**
@@ -66,17 +65,13 @@ public class Blender {
      * @param sourceAtom       The atom to be blended.
      * @param destinationAtom  The result atom.
      * @param numOfConversions The number of the desired atom.
+     * @return the number of conversions that happened.
      */
-    private void breakAtoms(int sourceAtom, int destinationAtom, int numOfConversions) throws ContainerNotInitializedException {
-        boolean canBlend;
+    private int breakAtoms(int sourceAtom, int destinationAtom, int numOfConversions) throws ContainerNotInitializedException {
         if (this.projectileContainer == null)
             throw new ContainerNotInitializedException();
-        for (int i = 0; i < numOfConversions; i++) {
-            canBlend = projectileContainer.decreaseAtoms(sourceAtom, 1);
-            if (!canBlend)
-                break;
-            projectileContainer.increaseAtoms(destinationAtom, (int) GameConstants.BLENDING_MATRIX[sourceAtom][destinationAtom], null);
-        }
+        return projectileContainer.convertAtoms(sourceAtom, 1,
+                destinationAtom, GameConstants.BLENDING_MATRIX[sourceAtom][destinationAtom], numOfConversions);
     }
 
     public void showBlender() {
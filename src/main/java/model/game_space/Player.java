@@ -16,10 +16,17 @@ public class Player {
     private static Logger logger;
 
     public Player(String username, GameStatisticsListener statisticsListener) {
+        this(username, statisticsListener, 10);
+    }
+
+    /**
+     * @param gameLengthInMinutes the time the player has before the game ends
+     */
+    public Player(String username, GameStatisticsListener statisticsListener, double gameLengthInMinutes) {
         this.username = username;
         health = GameConstants.DEFAULT_HEALTH;
         score = 0;
-        timer = new GameTimer(10);
+        timer = new GameTimer(gameLengthInMinutes);
         statistics = new GameStatistics(statisticsListener);
         logger = Logger.getLogger(this.getClass().getName());
     }
@@ -81,8 +88,11 @@ public class Player {
     }
 
     public boolean updateTime(int amountInMillis) {
+        int shownSeconds = timer.getRemainingTimeMillis() / 1000;
         timer.decrease(amountInMillis);
-        statistics.updateTimer(timer.getCurrentTimer());
+        // the timer shows whole seconds, so it is only formatted again when the second changes
+        if (timer.getRemainingTimeMillis() / 1000 != shownSeconds)
+            statistics.updateTimer(timer.getCurrentTimer());
         return timer.getRemainingTimeMillis() >= 1;
     }
 
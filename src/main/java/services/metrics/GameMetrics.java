@@ -0,0 +1,94 @@
+package services.metrics;
+
+import org.apache.log4j.Logger;
+import services.utils.IOHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The timing recorders of the game subsystems, by name.
+ * Recorders are created on first use and kept for the lifetime of the application, so the hot paths can look
+ * them up once and record without any further lookups.
+ */
+public class GameMetrics {
+
+    public static final String TICK = "tick";
+    public static final String ENTITY_PUBLISH = "entity publish";
+    public static final String DRAWING_LOOP = "drawing loop";
+    public static final String PAINT = "paint";
+
+    /**
+     * the directory the game window writes its reports to.
+     */
+    public static final String DEFAULT_DIRECTORY = "metrics";
+    private static final Logger logger = Logger.getLogger(GameMetrics.class.getName());
+    private static final GameMetrics instance = new GameMetrics();
+
+    private final ConcurrentMap<String, TimingRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile String dumpDirectory; // null until a caller opts in, so tests and headless runs write nothing
+    private volatile long sessionStart = System.currentTimeMillis();
+
+    private GameMetrics() {
+    }
+
+    public static GameMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * @return the recorder with the given name, created if it does not exist yet
+     */
+    public TimingRecorder recorder(String name) {
+        return recorders.computeIfAbsent(name, TimingRecorder::new);
+    }
+
+    /**
+     * clears all recorders, at the start of a new game.
+     */
+    public void reset() {
+        recorders.values().forEach(TimingRecorder::reset);
+        sessionStart = System.currentTimeMillis();
+    }
+
+    /**
+     * @return the summary of every recorder that recorded something, by name
+     */
+    public Map<String, Map<String, Object>> report() {
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        recorders.values().stream()
+                .filter(recorder -> recorder.getCount() > 0)
+                .sorted((first, second) -> first.getName().compareTo(second.getName()))
+                .forEach(recorder -> report.put(recorder.getName(), recorder.summary()));
+        return report;
+    }
+
+    /**
+     * @param dumpDirectory the directory the report is written to, relative to the working directory.
+     *                      null, the default, disables writing the report.
+     */
+    public void setDumpDirectory(String dumpDirectory) {
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    /**
+     * writes the report to a JSON file in the dump directory, if one is set. every game gets its own file, named
+     * after the time it started. failures are logged, they never reach the game.
+     */
+    public void dump() {
+        String directory = dumpDirectory;
+        if (directory == null)
+            return;
+        try {
+            new File(System.getProperty("user.dir"), directory).mkdirs();
+            IOHandler.writeToJSON(report(), "timings-" + sessionStart, directory);
+            logger.info("[GameMetrics] timings written to " + directory);
+        } catch (IOException e) {
+            logger.warn("[GameMetrics] could not write the timings", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package services.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * Durations are counted in logarithmic buckets, every power of two is split into {@link #SUB_BUCKETS} linear
+ * buckets, so a reported percentile is at most ~6% above the real value. Recording is a couple of atomic
+ * increments and never allocates, any thread can record while others read.
+ */
+public class TimingRecorder {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public TimingRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param nanos the duration to be recorded. negative durations are counted as zero.
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        if (nanos > max.get())
+            max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * records the time passed since the given start, as read from {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+        // the top SUB_BUCKET_BITS + 1 bits of the duration select the bucket
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (exponent << SUB_BUCKET_BITS) + (int) (nanos >>> exponent);
+    }
+
+    /**
+     * @return the largest duration that falls in the given bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        int exponent = (bucket >> SUB_BUCKET_BITS) - 1;
+        long subBucket = bucket - ((long) exponent << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << exponent) - 1;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) total.get() / n;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the duration in nanoseconds that the given percentile of the recorded durations do not exceed
+     */
+    public long getValueAtPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank)
+                return Math.min(upperBoundOf(i), getMax());
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            buckets.set(i, 0);
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @return the count and the p50, p99 and max durations in microseconds
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("meanMicros", getMean() / 1000.0);
+        summary.put("p50Micros", toMicros(getValueAtPercentile(50)));
+        summary.put("p99Micros", toMicros(getValueAtPercentile(99)));
+        summary.put("maxMicros", toMicros(getMax()));
+        return summary;
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + summary();
+    }
+}
@@ -0,0 +1,37 @@
+package services.utils;
+
+/**
+ * the game events that make a sound. the short effects of collisions and shots may be collapsed when they repeat
+ * quickly, the changes of the game state are always delivered.
+ */
+public enum AudioEvent {
+    SHOOTER_BLOCKER_COLLISION(true),
+    ATOM_MOLECULE_COLLISION(true),
+    SHOOTER_POWERUP_COLLISION(true),
+    POWERUP_BLOCKER_COLLISION(true),
+    ATOM_BLOCKER_COLLISION(true),
+    SHOOT(true),
+    GAME_START(false),
+    GAME_OVER(false),
+    GAME_PAUSED(false),
+    GAME_RESUME(false);
+
+    private static final AudioEvent[] values = values();
+
+    private final boolean effect;
+
+    AudioEvent(boolean effect) {
+        this.effect = effect;
+    }
+
+    /**
+     * @return whether the event is a short effect, which is collapsed with the same effect published shortly before
+     */
+    public boolean isEffect() {
+        return effect;
+    }
+
+    static AudioEvent forOrdinal(int ordinal) {
+        return values[ordinal];
+    }
+}
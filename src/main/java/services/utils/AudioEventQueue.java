@@ -0,0 +1,309 @@
+package services.utils;
+
+import model.game_running.CollisionHandler;
+import model.game_running.RunningMode;
+import org.apache.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * moves the sound callbacks of the game off the game threads. the callbacks only publish an {@link AudioEvent} into a
+ * bounded lock-free ring, and a dedicated audio thread takes the events out and calls the listeners behind the queue.
+ * publishing never waits: when the ring is full the event is dropped and counted. an effect that was published less
+ * than a window ago is collapsed into the earlier one, so a burst of the same collision plays a single sound.
+ */
+public class AudioEventQueue implements CollisionHandler.OnCollisionListener, RunningMode.OnGameStateListener {
+
+    private static final Logger logger = Logger.getLogger(AudioEventQueue.class.getName());
+
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final long DEFAULT_EFFECT_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(40);
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final CollisionHandler.OnCollisionListener collisionListener;
+    private final RunningMode.OnGameStateListener gameStateListener;
+    private final GameClock clock;
+    private final long effectWindowNanos;
+
+    // the ring: a slot can be written when its sequence equals the publishing position, and read when it is one more
+    private final int mask;
+    private final int[] events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // only the consumer moves the head
+
+    private final AtomicLongArray lastPublished;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    private final AtomicBoolean idle = new AtomicBoolean();
+    private volatile Thread audioThread;
+    private volatile boolean running;
+
+    /**
+     * @param collisionListener plays the collision sounds, may be null
+     * @param gameStateListener plays the game state sounds, may be null
+     * @param capacity          the number of events the ring holds, rounded up to a power of two
+     * @param effectWindowNanos the time in which a repeated effect is collapsed, zero to play every effect
+     * @param clock             the clock of the window
+     */
+    public AudioEventQueue(CollisionHandler.OnCollisionListener collisionListener,
+                           RunningMode.OnGameStateListener gameStateListener,
+                           int capacity, long effectWindowNanos, GameClock clock) {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("invalid capacity " + capacity);
+        this.collisionListener = collisionListener;
+        this.gameStateListener = gameStateListener;
+        this.effectWindowNanos = effectWindowNanos;
+        this.clock = clock;
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+        this.mask = size - 1;
+        this.events = new int[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+            sequences.set(i, i);
+        this.lastPublished = new AtomicLongArray(AudioEvent.values().length);
+        for (int i = 0; i < lastPublished.length(); i++)
+            lastPublished.set(i, NEVER);
+    }
+
+    /**
+     * creates a queue with the default capacity and window and starts its audio thread.
+     *
+     * @param collisionListener plays the collision sounds, may be null
+     * @param gameStateListener plays the game state sounds, may be null
+     */
+    public static AudioEventQueue start(CollisionHandler.OnCollisionListener collisionListener,
+                                        RunningMode.OnGameStateListener gameStateListener) {
+        AudioEventQueue queue = new AudioEventQueue(collisionListener, gameStateListener,
+                DEFAULT_CAPACITY, DEFAULT_EFFECT_WINDOW_NANOS, SystemClock.getInstance());
+        queue.start();
+        return queue;
+    }
+
+    /**
+     * starts the audio thread that delivers the published events.
+     */
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+        Thread thread = new Thread(this::run, "audio");
+        thread.setDaemon(true);
+        audioThread = thread;
+        thread.start();
+    }
+
+    /**
+     * stops the audio thread once it has delivered the events already in the ring, such as the end of the game.
+     * the events published afterwards are not delivered. it does not wait for the thread.
+     */
+    public synchronized void stop() {
+        running = false;
+        Thread thread = audioThread;
+        audioThread = null;
+        if (thread != null)
+            LockSupport.unpark(thread);
+    }
+
+    /**
+     * adds an event to the ring without waiting.
+     *
+     * @param event the event to deliver
+     * @return whether the event will be delivered, false if it was collapsed or dropped
+     */
+    public boolean publish(AudioEvent event) {
+        if (event.isEffect() && effectWindowNanos > 0 && !claimWindow(event)) {
+            collapsed.incrementAndGet();
+            return false;
+        }
+        long position;
+        int slot;
+        while (true) {
+            position = tail.get();
+            slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1))
+                    break;
+            } else if (difference < 0) {
+                dropped.incrementAndGet(); // the consumer has not freed the slot yet, the ring is full
+                return false;
+            }
+            // another thread took this position, try the next one
+        }
+        events[slot] = event.ordinal();
+        sequences.set(slot, position + 1);
+        if (idle.get() && idle.compareAndSet(true, false)) {
+            Thread thread = audioThread;
+            if (thread != null)
+                LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * @return whether no event of the same effect was published within the window, in which case this event owns
+     * the window
+     */
+    private boolean claimWindow(AudioEvent event) {
+        int index = event.ordinal();
+        long now = clock.nanoTime();
+        long last = lastPublished.get(index);
+        if (last != NEVER && now - last < effectWindowNanos)
+            return false;
+        return lastPublished.compareAndSet(index, last, now);
+    }
+
+    /**
+     * delivers the events in the ring on the calling thread. only one thread may drain the queue, which is the audio
+     * thread once the queue is started.
+     *
+     * @return the number of delivered events
+     */
+    public int drain() {
+        int delivered = 0;
+        while (true) {
+            int slot = (int) head & mask;
+            if (sequences.get(slot) != head + 1)
+                return delivered;
+            AudioEvent event = AudioEvent.forOrdinal(events[slot]);
+            sequences.set(slot, head + mask + 1);
+            head++;
+            deliver(event);
+            delivered++;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() > 0)
+                continue;
+            idle.set(true);
+            // an event published before the flag was set would not wake this thread
+            if (drain() == 0 && running)
+                LockSupport.park(this); // a publisher or stop wakes the thread
+            idle.set(false);
+        }
+        drain();
+    }
+
+    private void deliver(AudioEvent event) {
+        try {
+            switch (event) {
+                case SHOOTER_BLOCKER_COLLISION:
+                    if (collisionListener != null)
+                        collisionListener.onShooterBlockerCollision();
+                    break;
+                case ATOM_MOLECULE_COLLISION:
+                    if (collisionListener != null)
+                        collisionListener.onAtomMoleculeCollision();
+                    break;
+                case SHOOTER_POWERUP_COLLISION:
+                    if (collisionListener != null)
+                        collisionListener.onShooterPowerupCollision();
+                    break;
+                case POWERUP_BLOCKER_COLLISION:
+                    if (collisionListener != null)
+                        collisionListener.onPowerupBlockerCollision();
+                    break;
+                case ATOM_BLOCKER_COLLISION:
+                    if (collisionListener != null)
+                        collisionListener.onAtomBlockerCollision();
+                    break;
+                case SHOOT:
+                    if (gameStateListener != null)
+                        gameStateListener.onShoot();
+                    break;
+                case GAME_START:
+                    if (gameStateListener != null)
+                        gameStateListener.onGameStart();
+                    break;
+                case GAME_OVER:
+                    if (gameStateListener != null)
+                        gameStateListener.onGameOver();
+                    break;
+                case GAME_PAUSED:
+                    if (gameStateListener != null)
+                        gameStateListener.onGamePaused();
+                    break;
+                case GAME_RESUME:
+                    if (gameStateListener != null)
+                        gameStateListener.onGameResume();
+                    break;
+            }
+        } catch (Exception e) {
+            logger.error("could not play the sound of " + event, e);
+        }
+    }
+
+    /**
+     * @return the number of events dropped because the ring was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of effects collapsed into an earlier one of the same kind
+     */
+    public long getCollapsedCount() {
+        return collapsed.get();
+    }
+
+    @Override
+    public void onShooterBlockerCollision() {
+        publish(AudioEvent.SHOOTER_BLOCKER_COLLISION);
+    }
+
+    @Override
+    public void onAtomMoleculeCollision() {
+        publish(AudioEvent.ATOM_MOLECULE_COLLISION);
+    }
+
+    @Override
+    public void onShooterPowerupCollision() {
+        publish(AudioEvent.SHOOTER_POWERUP_COLLISION);
+    }
+
+    @Override
+    public void onPowerupBlockerCollision() {
+        publish(AudioEvent.POWERUP_BLOCKER_COLLISION);
+    }
+
+    @Override
+    public void onAtomBlockerCollision() {
+        publish(AudioEvent.ATOM_BLOCKER_COLLISION);
+    }
+
+    @Override
+    public void onGameStart() {
+        publish(AudioEvent.GAME_START);
+    }
+
+    @Override
+    public void onGameOver() {
+        publish(AudioEvent.GAME_OVER);
+    }
+
+    @Override
+    public void onGamePaused() {
+        publish(AudioEvent.GAME_PAUSED);
+    }
+
+    @Override
+    public void onGameResume() {
+        publish(AudioEvent.GAME_RESUME);
+    }
+
+    @Override
+    public void onShoot() {
+        publish(AudioEvent.SHOOT);
+    }
+}
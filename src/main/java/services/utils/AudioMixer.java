@@ -0,0 +1,210 @@
+package services.utils;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.Arrays;
+
+/**
+ * sums the sounds that are playing into a single PCM stream. a sound plays in one of a fixed number of voices, a
+ * sound started while every voice is busy is skipped, so the work and the memory of mixing do not grow with the
+ * number of sounds asked for. the mixer does not need an audio device, {@link AudioOutput} streams what it mixes to
+ * one. the voices are changed by the audio thread and mixed by the output thread, the two share the lock of the
+ * mixer for the short time of a change or of mixing a buffer.
+ */
+public class AudioMixer {
+
+    public static final float SAMPLE_RATE = 44100;
+    public static final int CHANNELS = 2;
+    public static final int FRAME_SIZE = CHANNELS * 2;
+    /**
+     * the format of the mixed stream: signed 16 bit little endian stereo.
+     */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    private final MixerSound[] sounds;
+    private final int[] ids;
+    private final int[] positions; // the next sample of the voice
+    private final float[] gains;
+    private final boolean[] looping;
+    private final boolean[] paused;
+    private int lastId;
+    private long skipped;
+    private int[] accumulator = new int[0];
+
+    /**
+     * @param voices the number of sounds that can play at the same time
+     */
+    public AudioMixer(int voices) {
+        if (voices <= 0)
+            throw new IllegalArgumentException("the mixer needs at least one voice");
+        sounds = new MixerSound[voices];
+        ids = new int[voices];
+        positions = new int[voices];
+        gains = new float[voices];
+        looping = new boolean[voices];
+        paused = new boolean[voices];
+    }
+
+    /**
+     * @param decibels a change of volume in decibels
+     * @return the factor the samples are multiplied with for the change
+     */
+    public static float gainOf(double decibels) {
+        return (float) Math.pow(10, decibels / 20);
+    }
+
+    /**
+     * starts a sound in a free voice.
+     *
+     * @param sound the sound to play
+     * @param gain  the factor the samples of the sound are multiplied with
+     * @param loop  whether the sound starts again when it ends, until it is stopped
+     * @return the id of the voice that plays the sound, or -1 if every voice is busy and the sound is skipped
+     */
+    public synchronized int play(MixerSound sound, float gain, boolean loop) {
+        for (int voice = 0; voice < sounds.length; voice++)
+            if (sounds[voice] == null)
+                return start(voice, sound, gain, loop);
+        skipped++;
+        return -1;
+    }
+
+    /**
+     * starts a sound that must not be skipped, like the music. when every voice is busy, the sound takes the voice
+     * of the sound that ends soonest among the ones that do not loop.
+     *
+     * @param sound the sound to play
+     * @param gain  the factor the samples of the sound are multiplied with
+     * @param loop  whether the sound starts again when it ends, until it is stopped
+     * @return the id of the voice that plays the sound, or -1 if every voice plays a looping sound
+     */
+    public synchronized int playOverEffects(MixerSound sound, float gain, boolean loop) {
+        int taken = -1;
+        int takenLeft = Integer.MAX_VALUE;
+        for (int voice = 0; voice < sounds.length; voice++) {
+            if (sounds[voice] == null)
+                return start(voice, sound, gain, loop);
+            int left = sounds[voice].getSamples().length - positions[voice];
+            if (!looping[voice] && left < takenLeft) {
+                taken = voice;
+                takenLeft = left;
+            }
+        }
+        if (taken < 0) {
+            skipped++;
+            return -1;
+        }
+        return start(taken, sound, gain, loop);
+    }
+
+    private int start(int voice, MixerSound sound, float gain, boolean loop) {
+        lastId = lastId == Integer.MAX_VALUE ? 1 : lastId + 1;
+        sounds[voice] = sound;
+        ids[voice] = lastId;
+        positions[voice] = 0;
+        gains[voice] = gain;
+        looping[voice] = loop;
+        paused[voice] = false;
+        return lastId;
+    }
+
+    /**
+     * stops a sound, nothing happens if it has already ended.
+     *
+     * @param id the id returned when the sound was started
+     */
+    public synchronized void stop(int id) {
+        int voice = voiceOf(id);
+        if (voice >= 0)
+            sounds[voice] = null;
+    }
+
+    /**
+     * @param id    the id returned when the sound was started
+     * @param pause whether the sound holds its position instead of playing
+     */
+    public synchronized void setPaused(int id, boolean pause) {
+        int voice = voiceOf(id);
+        if (voice >= 0)
+            paused[voice] = pause;
+    }
+
+    /**
+     * @return whether the sound with the id is still in its voice, playing or paused
+     */
+    public synchronized boolean isActive(int id) {
+        return voiceOf(id) >= 0;
+    }
+
+    private int voiceOf(int id) {
+        for (int voice = 0; voice < sounds.length; voice++)
+            if (sounds[voice] != null && ids[voice] == id)
+                return voice;
+        return -1;
+    }
+
+    public synchronized int getActiveVoiceCount() {
+        int active = 0;
+        for (MixerSound sound : sounds)
+            if (sound != null)
+                active++;
+        return active;
+    }
+
+    /**
+     * @return the number of sounds skipped because every voice was busy
+     */
+    public synchronized long getSkippedCount() {
+        return skipped;
+    }
+
+    public int getVoiceCount() {
+        return sounds.length;
+    }
+
+    /**
+     * mixes the next frames of every playing sound into a buffer in {@link #FORMAT}, the sum is clipped to 16 bits.
+     * the voices move forward by the mixed frames and the sounds that end free their voices.
+     *
+     * @param buffer the buffer to write
+     * @param offset the first byte to write
+     * @param frames the number of frames to write
+     */
+    public synchronized void mix(byte[] buffer, int offset, int frames) {
+        int length = frames * CHANNELS;
+        if (accumulator.length < length)
+            accumulator = new int[length];
+        int[] sum = accumulator;
+        Arrays.fill(sum, 0, length, 0);
+
+        for (int voice = 0; voice < sounds.length; voice++) {
+            MixerSound sound = sounds[voice];
+            if (sound == null || paused[voice])
+                continue;
+            short[] samples = sound.getSamples();
+            float gain = gains[voice];
+            int position = positions[voice];
+            int written = 0;
+            while (written < length) {
+                int count = Math.min(length - written, samples.length - position);
+                for (int i = 0; i < count; i++)
+                    sum[written + i] += (int) (samples[position + i] * gain);
+                written += count;
+                position += count;
+                if (position >= samples.length) {
+                    if (!looping[voice] || samples.length == 0) {
+                        sounds[voice] = null;
+                        break;
+                    }
+                    position = 0;
+                }
+            }
+            positions[voice] = position;
+        }
+
+        for (int i = 0; i < length; i++) {
+            int value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sum[i]));
+            buffer[offset + 2 * i] = (byte) value;
+            buffer[offset + 2 * i + 1] = (byte) (value >> 8);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package services.utils;
+
+import org.apache.log4j.Logger;
+
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * streams an {@link AudioMixer} to the audio device through one line. a thread mixes a fixed number of frames at a
+ * time and writes them to the line, the write blocks while the line is full, which paces the mixing. the latency is
+ * at most the buffer of the line.
+ */
+public class AudioOutput implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(AudioOutput.class.getName());
+
+    // about 23 ms of sound per write, the line holds two of them
+    public static final int CHUNK_FRAMES = 1024;
+    private static final int LINE_BUFFER_FRAMES = 2 * CHUNK_FRAMES;
+
+    private final AudioMixer mixer;
+    private final SourceDataLine line;
+    private final byte[] chunk = new byte[CHUNK_FRAMES * AudioMixer.FRAME_SIZE];
+    private volatile boolean running;
+
+    private AudioOutput(AudioMixer mixer, SourceDataLine line) {
+        this.mixer = mixer;
+        this.line = line;
+    }
+
+    /**
+     * opens a line for the mixer and starts streaming to it.
+     *
+     * @param mixer the mixer to stream
+     * @return the output, or null if there is no audio device to stream to
+     */
+    public static AudioOutput start(AudioMixer mixer) {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(AudioMixer.FORMAT);
+            line.open(AudioMixer.FORMAT, LINE_BUFFER_FRAMES * AudioMixer.FRAME_SIZE);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            logger.warn("no audio line to play the sounds on, the game will be silent", e);
+            return null;
+        }
+        AudioOutput output = new AudioOutput(mixer, line);
+        output.running = true;
+        line.start();
+        Thread thread = new Thread(output, "audio-mixer");
+        thread.setDaemon(true);
+        thread.start();
+        return output;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                mixer.mix(chunk, 0, CHUNK_FRAMES);
+                line.write(chunk, 0, chunk.length);
+            }
+        } finally {
+            line.stop();
+            line.close();
+        }
+    }
+
+    /**
+     * stops streaming and closes the line.
+     */
+    public void stop() {
+        running = false;
+    }
+}
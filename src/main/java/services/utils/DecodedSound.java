@@ -0,0 +1,68 @@
+package services.utils;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * a sound decoded into memory as PCM frames, so playing it does not touch the disk.
+ */
+public final class DecodedSound {
+
+    private final AudioFormat format;
+    private final byte[] data;
+
+    public DecodedSound(AudioFormat format, byte[] data) {
+        this.format = format;
+        this.data = data;
+    }
+
+    /**
+     * reads a whole audio file into memory, converting it to signed PCM if it is stored in another encoding.
+     *
+     * @param filePath the path of the audio file
+     * @return the decoded sound
+     * @throws UnsupportedAudioFileException if the audio type is not supported
+     * @throws IOException                   if the audio file could not be read
+     */
+    public static DecodedSound decode(String filePath) throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(new File(filePath))) {
+            AudioFormat source = in.getFormat();
+            if (AudioFormat.Encoding.PCM_SIGNED.equals(source.getEncoding()))
+                return new DecodedSound(source, readAll(in));
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, source.getSampleRate(), 16,
+                    source.getChannels(), source.getChannels() * 2, source.getSampleRate(), false);
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm, in)) {
+                return new DecodedSound(pcm, readAll(converted));
+            }
+        }
+    }
+
+    private static byte[] readAll(AudioInputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return out.toByteArray();
+    }
+
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the PCM frames, shared and not to be modified
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    public int getFrameCount() {
+        return data.length / format.getFrameSize();
+    }
+}
@@ -0,0 +1,95 @@
+package services.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws an index with a probability proportional to its weight. The weights are kept in a Fenwick tree, so changing
+ * a weight and drawing an index both take O(log k) for k indices, and a draw always takes exactly one random number.
+ */
+public class FenwickSampler {
+
+    // tree[i] holds the sum of the weights in (i - lowbit(i), i], the indices are shifted by one
+    private final long[] tree;
+    private final long[] weights;
+    private long total;
+
+    /**
+     * @param size the number of indices, all weights start at zero
+     */
+    public FenwickSampler(int size) {
+        this.tree = new long[size + 1];
+        this.weights = new long[size];
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public long getWeight(int index) {
+        return weights[index];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @param index  the index to change
+     * @param weight the new weight of the index, not negative
+     */
+    public void setWeight(int index, long weight) {
+        if (weight < 0)
+            throw new IllegalArgumentException("negative weight " + weight + " for index " + index);
+        long delta = weight - weights[index];
+        if (delta == 0)
+            return;
+        weights[index] = weight;
+        total += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i)
+            tree[i] += delta;
+    }
+
+    public void clear() {
+        Arrays.fill(tree, 0);
+        Arrays.fill(weights, 0);
+        total = 0;
+    }
+
+    /**
+     * @param random the source of the draw
+     * @return an index drawn with a probability proportional to its weight, or -1 if all the weights are zero
+     */
+    public int sample(Random random) {
+        if (total <= 0)
+            return -1;
+        return find(nextLong(random, total));
+    }
+
+    /**
+     * @return the index whose range of the cumulative weights contains the target
+     */
+    private int find(long target) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    private static long nextLong(Random random, long bound) {
+        if (bound <= Integer.MAX_VALUE)
+            return random.nextInt((int) bound);
+        // rejection keeps the draw uniform for bounds that do not fit an int
+        long bits, value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + (bound - 1) < 0);
+        return value;
+    }
+}
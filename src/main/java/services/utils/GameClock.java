@@ -0,0 +1,20 @@
+package services.utils;
+
+/**
+ * a source of time for the game loop. the real game uses {@link SystemClock}, while headless simulations use a
+ * {@link VirtualClock} so that they do not have to wait for the wall clock.
+ */
+public interface GameClock {
+
+    /**
+     * @return the current time of the clock in nanoseconds. only differences between two readings are meaningful.
+     */
+    long nanoTime();
+
+    /**
+     * waits until the given amount of time has passed on this clock.
+     *
+     * @param nanos the amount of time to wait in nanoseconds
+     */
+    void sleep(long nanos) throws InterruptedException;
+}
@@ -0,0 +1,178 @@
+package services.utils;
+
+/**
+ * Primitive versions of the geometry in {@link MathUtils}, {@link Vector} and {@link Coordinates}. The results are
+ * returned as doubles or written into arrays and holders owned by the caller, so nothing is allocated. The code
+ * that runs every tick (hitboxes, the shooter and the path patterns) uses these, the object versions stay for the
+ * rest of the game.
+ * Every method gives the same result as the object version it replaces.
+ */
+public final class MathKernel {
+
+    private MathKernel() {
+    }
+
+    /**
+     * the x coordinate of a point rotated around a center, as in {@link MathUtils#applyRotation}.
+     *
+     * @param cos the cosine of the rotation angle
+     * @param sin the sine of the rotation angle
+     * @param cx  the x coordinate of the rotation center
+     * @param cy  the y coordinate of the rotation center
+     * @param x   the x coordinate of the point
+     * @param y   the y coordinate of the point
+     * @return the rotated x coordinate
+     */
+    public static double rotateX(double cos, double sin, double cx, double cy, double x, double y) {
+        // the rotated offset is rounded to a float, as applyRotation does
+        return (float) (cos * (x - cx) - sin * (y - cy)) + cx;
+    }
+
+    /**
+     * the y coordinate of a point rotated around a center, as in {@link MathUtils#applyRotation}.
+     *
+     * @param cos the cosine of the rotation angle
+     * @param sin the sine of the rotation angle
+     * @param cx  the x coordinate of the rotation center
+     * @param cy  the y coordinate of the rotation center
+     * @param x   the x coordinate of the point
+     * @param y   the y coordinate of the point
+     * @return the rotated y coordinate
+     */
+    public static double rotateY(double cos, double sin, double cx, double cy, double x, double y) {
+        return (float) (sin * (x - cx) + cos * (y - cy)) + cy;
+    }
+
+    /**
+     * rotates a point around a center and writes it into out[offset] and out[offset + 1].
+     *
+     * @param angle the rotation angle in degrees
+     */
+    public static void rotate(double angle, double cx, double cy, double x, double y, double[] out, int offset) {
+        double radians = Math.toRadians(angle);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        out[offset] = rotateX(cos, sin, cx, cy, x, y);
+        out[offset + 1] = rotateY(cos, sin, cx, cy, x, y);
+    }
+
+    /**
+     * rotates a point around a center and writes it into a holder.
+     *
+     * @param angle the rotation angle in degrees
+     * @param out   the coordinates that are set to the rotated point
+     */
+    public static void rotate(double angle, double cx, double cy, double x, double y, Coordinates out) {
+        double radians = Math.toRadians(angle);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        out.setX(rotateX(cos, sin, cx, cy, x, y));
+        out.setY(rotateY(cos, sin, cx, cy, x, y));
+    }
+
+    /**
+     * @return true if the point is inside or on the circle, as in {@link MathUtils#isWithinCircle}
+     */
+    public static boolean isWithinCircle(double cx, double cy, double radius, double x, double y) {
+        // nothing can be inside a circle with no radius
+        if (radius == 0)
+            return false;
+        double dx = x - cx;
+        double dy = y - cy;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    /**
+     * @return true if the point is inside or on the axis aligned rectangle, as in {@link MathUtils#isWithinRectangle}
+     */
+    public static boolean isWithinRectangle(double cx, double cy, double halfWidth, double halfHeight,
+                                            double x, double y) {
+        double right = cx + halfWidth;
+        double top = cy + halfHeight;
+        // the opposite corner is found the way inverseVector finds it
+        double left = 2 * cx - right;
+        double bottom = 2 * cy - top;
+        return x <= right && x >= left && y <= top && y >= bottom;
+    }
+
+    /**
+     * @return the number of points {@link #circleBoundary} writes
+     */
+    public static int circleBoundaryCount(int numberOfPoints) {
+        return numberOfPoints;
+    }
+
+    /**
+     * writes points on the circumference of a circle as x, y pairs into out, in the order of
+     * {@link MathUtils#coordinatesAroundCircle}.
+     *
+     * @param out an array with room for 2 * circleBoundaryCount(numberOfPoints) values
+     */
+    public static void circleBoundary(double cx, double cy, double radius, int numberOfPoints, double[] out) {
+        double angle = 0.0;
+        for (int i = 0; i < numberOfPoints; i++) {
+            rotate(angle, cx, cy, cx + radius, cy, out, 2 * i);
+            angle += (double) 360 / numberOfPoints;
+        }
+    }
+
+    /**
+     * @return the number of points {@link #rectangleBoundary} writes
+     */
+    public static int rectangleBoundaryCount(int numberOfPoints) {
+        return 4 * (numberOfPoints + 1);
+    }
+
+    /**
+     * writes points on the sides of a rotated rectangle as x, y pairs into out, in the order of
+     * {@link MathUtils#getRectangularBoundaryCoordinates}: top, bottom, left and right.
+     *
+     * @param angle the rotation of the rectangle around its center in degrees
+     * @param out   an array with room for 2 * rectangleBoundaryCount(numberOfPoints) values
+     */
+    public static void rectangleBoundary(double cx, double cy, double halfWidth, double halfHeight, double angle,
+                                         int numberOfPoints, double[] out) {
+        double radians = Math.toRadians(angle);
+        rectangleBoundary(cx, cy, halfWidth, halfHeight, Math.cos(radians), Math.sin(radians), numberOfPoints, out);
+    }
+
+    /**
+     * the same as {@link #rectangleBoundary(double, double, double, double, double, int, double[])}, with the
+     * cosine and the sine of the rotation already known.
+     */
+    public static void rectangleBoundary(double cx, double cy, double halfWidth, double halfHeight,
+                                         double cos, double sin, int numberOfPoints, double[] out) {
+        double x2 = cx + halfWidth;
+        double y2 = cy + halfHeight;
+        double x1 = 2 * cx - x2;
+        double y1 = 2 * cy - y2;
+        double width = Math.abs(x2 - x1);
+        double height = Math.abs(y2 - y1);
+
+        int side = numberOfPoints + 1;
+        for (int i = 0; i <= numberOfPoints; i++) {
+            double x = x1 + (i * width / numberOfPoints);
+            double y = y1 + (i * height / numberOfPoints);
+            write(out, i, cos, sin, cx, cy, x, y2);
+            write(out, side + i, cos, sin, cx, cy, x, y1);
+            write(out, 2 * side + i, cos, sin, cx, cy, x1, y);
+            write(out, 3 * side + i, cos, sin, cx, cy, x2, y);
+        }
+    }
+
+    private static void write(double[] out, int point, double cos, double sin, double cx, double cy,
+                              double x, double y) {
+        out[2 * point] = rotateX(cos, sin, cx, cy, x, y);
+        out[2 * point + 1] = rotateY(cos, sin, cx, cy, x, y);
+    }
+
+    /**
+     * reflects a velocity off a surface with the unit normal n, the primitive version of {@link Velocity#reflect}.
+     * the result is v - 2 (n . v) n, written into out[0] and out[1].
+     */
+    public static void reflect(double vx, double vy, double nx, double ny, double[] out) {
+        double scale = 2 * (nx * vx + ny * vy);
+        out[0] = vx - nx * scale;
+        out[1] = vy - ny * scale;
+    }
+}
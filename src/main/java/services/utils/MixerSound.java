@@ -0,0 +1,69 @@
+package services.utils;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * a decoded sound converted to the format of the {@link AudioMixer}: interleaved stereo 16 bit samples at the rate of
+ * the mixer. the conversion is done once when the sound is loaded, so mixing it is a plain copy with a gain.
+ */
+public final class MixerSound {
+
+    private final short[] samples;
+
+    private MixerSound(short[] samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * @param sound a signed PCM sound of 8 or 16 bits, mono or stereo, at any rate
+     * @return the sound in the format of the mixer
+     */
+    public static MixerSound of(DecodedSound sound) {
+        AudioFormat format = sound.getFormat();
+        if (!AudioFormat.Encoding.PCM_SIGNED.equals(format.getEncoding())
+                || (format.getSampleSizeInBits() != 8 && format.getSampleSizeInBits() != 16))
+            throw new IllegalArgumentException("unsupported format " + format);
+        int channels = format.getChannels();
+        int sourceFrames = sound.getFrameCount();
+        double step = format.getSampleRate() / AudioMixer.SAMPLE_RATE;
+        int frames = (int) (sourceFrames / step);
+        short[] samples = new short[frames * AudioMixer.CHANNELS];
+        for (int frame = 0; frame < frames; frame++) {
+            // linear interpolation between the two closest source frames, which is a copy when the rates match
+            double position = frame * step;
+            int first = (int) position;
+            int second = Math.min(first + 1, sourceFrames - 1);
+            double weight = position - first;
+            for (int channel = 0; channel < AudioMixer.CHANNELS; channel++) {
+                int sourceChannel = Math.min(channel, channels - 1); // mono goes to both channels
+                double value = sampleAt(sound, first, sourceChannel) * (1 - weight)
+                        + sampleAt(sound, second, sourceChannel) * weight;
+                samples[frame * AudioMixer.CHANNELS + channel] = (short) Math.round(value);
+            }
+        }
+        return new MixerSound(samples);
+    }
+
+    private static int sampleAt(DecodedSound sound, int frame, int channel) {
+        AudioFormat format = sound.getFormat();
+        byte[] data = sound.getData();
+        int bytes = format.getSampleSizeInBits() / 8;
+        int index = frame * format.getFrameSize() + channel * bytes;
+        if (bytes == 1)
+            return data[index] << 8;
+        return format.isBigEndian()
+                ? (data[index] << 8) | (data[index + 1] & 0xff)
+                : (data[index + 1] << 8) | (data[index] & 0xff);
+    }
+
+    /**
+     * @return the interleaved stereo samples, shared and not to be modified
+     */
+    short[] getSamples() {
+        return samples;
+    }
+
+    public int getFrameCount() {
+        return samples.length / AudioMixer.CHANNELS;
+    }
+}
@@ -0,0 +1,100 @@
+package services.utils;
+
+import org.apache.log4j.Logger;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * every sound effect decoded into memory once, in the format of the mixer the game plays its sounds with. playing
+ * an effect starts it in a voice of the mixer, it does not read the disk or open an audio line. an effect that could
+ * not be loaded is silent, and so is every sound when there is no audio device.
+ */
+public class SoundBank {
+
+    private static final Logger logger = Logger.getLogger(SoundBank.class.getName());
+    // the number of sounds, music included, that can play at the same time
+    private static final int MIXER_VOICES = 16;
+
+    private static volatile SoundBank instance;
+
+    private final AudioMixer mixer;
+    private final Map<SoundEffect, MixerSound> effects = new EnumMap<>(SoundEffect.class);
+    private final Map<String, MixerSound> music = new HashMap<>();
+
+    /**
+     * @param mixer the mixer the sounds are played with
+     */
+    SoundBank(AudioMixer mixer) {
+        this.mixer = mixer;
+        for (SoundEffect effect : SoundEffect.values()) {
+            MixerSound sound = load(effect.getFilePath());
+            if (sound != null)
+                effects.put(effect, sound);
+        }
+    }
+
+    /**
+     * loads the sound effects and starts streaming the mixer to the audio device the first time it is called.
+     */
+    public static SoundBank getInstance() {
+        SoundBank bank = instance;
+        if (bank == null) {
+            synchronized (SoundBank.class) {
+                bank = instance;
+                if (bank == null) {
+                    bank = new SoundBank(new AudioMixer(MIXER_VOICES));
+                    AudioOutput.start(bank.mixer);
+                    instance = bank;
+                }
+            }
+        }
+        return bank;
+    }
+
+    private static MixerSound load(String filePath) {
+        try {
+            return MixerSound.of(DecodedSound.decode(filePath));
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            logger.error("could not load the sound " + filePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * starts an effect if a voice of the mixer is free, it never waits for a voice.
+     *
+     * @param effect the effect to play
+     * @return whether the effect was started
+     */
+    public boolean play(SoundEffect effect) {
+        MixerSound sound = effects.get(effect);
+        return sound != null && mixer.play(sound, 1f, false) >= 0;
+    }
+
+    /**
+     * @return the decoded effect, or null if it could not be loaded
+     */
+    public MixerSound getSound(SoundEffect effect) {
+        return effects.get(effect);
+    }
+
+    /**
+     * loads a piece of music the first time it is asked for and keeps it for the next times.
+     *
+     * @param filePath the path of the music file
+     * @return the decoded music, or null if it could not be loaded
+     */
+    public synchronized MixerSound getMusic(String filePath) {
+        if (!music.containsKey(filePath))
+            music.put(filePath, load(filePath));
+        return music.get(filePath);
+    }
+
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+}
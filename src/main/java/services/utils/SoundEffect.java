@@ -0,0 +1,23 @@
+package services.utils;
+
+/**
+ * the short sounds the game plays on collisions and shots.
+ */
+public enum SoundEffect {
+    COLLECT_MOLECULE("assets/Sounds/SoundEffects/collect.wav"),
+    GET_DAMAGE("assets/Sounds/SoundEffects/hurt.wav"),
+    COLLECT_POWERUP("assets/Sounds/SoundEffects/powerup.wav"),
+    DESTROY_BLOCKER("assets/Sounds/SoundEffects/explosion.wav"),
+    ATOM_BLOCKED("assets/Sounds/SoundEffects/atom_blocked.wav"),
+    PROJECTILE_SHOT("assets/Sounds/SoundEffects/shoot.wav");
+
+    private final String filePath;
+
+    SoundEffect(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+}
@@ -2,144 +2,106 @@ package services.utils;
 
 import model.game_running.CollisionHandler;
 import model.game_running.RunningMode;
-
-import javax.sound.sampled.*;
-import java.io.File;
-import java.io.IOException;
+import org.apache.log4j.Logger;
 
 public class SoundHandler implements CollisionHandler.OnCollisionListener, RunningMode.OnGameStateListener {
-    // For sound effects.
-    private Clip soundEffectsClip;
-    private AudioInputStream soundEffectAudioInputStream;
-    private String soundEffectFilePath;
-
-    // For game music.
-    private Clip gameStateClip;
-    private AudioInputStream gameStateAudioInputStream;
-    private String gameStateFilePath;
-
-    // Default sound effects.
-    private final String COLLECT_MOLECULE = "assets/Sounds/SoundEffects/collect.wav";
-    private final String GET_DAMAGE = "assets/Sounds/SoundEffects/hurt.wav";
-    private final String COLLECT_POWERUP = "assets/Sounds/SoundEffects/powerup.wav";
-    private final String DESTROY_BLOCKER = "assets/Sounds/SoundEffects/explosion.wav";
-    private final String ATOM_BLOCKED = "assets/Sounds/SoundEffects/atom_blocked.wav";
-    private final String PROJECTILE_SHOT = "assets/Sounds/SoundEffects/shoot.wav";
+    private static final Logger logger = Logger.getLogger(SoundHandler.class.getName());
+
+    // The sound effects and the music are decoded once and mixed into a single audio line.
+    private final SoundBank soundBank;
+    private final AudioMixer mixer;
+    // the voice of the music, the music keeps it until it is stopped as it loops
+    private int musicVoice = -1;
+    private boolean musicStopped;
 
     // Game music
     private final String BACKGROUND_MUSIC = "assets/Sounds/GameMusic/background_music.wav";
     private final String GAME_OVER_MUSIC = "assets/Sounds/GameMusic/game_over.wav";
+    private final float BACKGROUND_MUSIC_GAIN = AudioMixer.gainOf(-28.0);
+    private final float GAME_OVER_MUSIC_GAIN = AudioMixer.gainOf(-20.0);
 
-    @Override
-    public void onShooterBlockerCollision() throws UnsupportedAudioFileException, IOException, LineUnavailableException{
-        this.soundEffectFilePath = GET_DAMAGE;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    public SoundHandler() {
+        this(SoundBank.getInstance());
     }
 
-    @Override
-    public void onAtomMoleculeCollision() throws UnsupportedAudioFileException, IOException, LineUnavailableException{
-        this.soundEffectFilePath = COLLECT_MOLECULE;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    /**
+     * @param soundBank the sounds that are played, and the mixer they are played with
+     */
+    SoundHandler(SoundBank soundBank) {
+        this.soundBank = soundBank;
+        this.mixer = soundBank.getMixer();
     }
 
     @Override
-    public void onShooterPowerupCollision() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.soundEffectFilePath = COLLECT_POWERUP;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    public void onShooterBlockerCollision() {
+        soundBank.play(SoundEffect.GET_DAMAGE);
     }
 
     @Override
-    public void onPowerupBlockerCollision() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.soundEffectFilePath = DESTROY_BLOCKER;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    public void onAtomMoleculeCollision() {
+        soundBank.play(SoundEffect.COLLECT_MOLECULE);
     }
 
     @Override
-    public void onAtomBlockerCollision() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.soundEffectFilePath = ATOM_BLOCKED;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    public void onShooterPowerupCollision() {
+        soundBank.play(SoundEffect.COLLECT_POWERUP);
     }
 
     @Override
-    public void onGameStart() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.gameStateFilePath = BACKGROUND_MUSIC;
-
-        gameStateClip = getGameStateClip(this.gameStateFilePath);
-        gameStateClip.open(gameStateAudioInputStream);
-
-        FloatControl volumeControl = (FloatControl) gameStateClip.getControl(FloatControl.Type.MASTER_GAIN);
-        volumeControl.setValue(-28.0f);
-
-        this.gameStateClip.loop(Clip.LOOP_CONTINUOUSLY);
-        gameStateClip.start();
+    public void onPowerupBlockerCollision() {
+        soundBank.play(SoundEffect.DESTROY_BLOCKER);
     }
 
     @Override
-    public void onGameOver() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.gameStateFilePath = GAME_OVER_MUSIC;
-        gameStateClip.close();
-        gameStateClip = getGameStateClip(this.gameStateFilePath);
-        gameStateClip.open(gameStateAudioInputStream);
+    public void onAtomBlockerCollision() {
+        soundBank.play(SoundEffect.ATOM_BLOCKED);
+    }
 
-        FloatControl volumeControl = (FloatControl) gameStateClip.getControl(FloatControl.Type.MASTER_GAIN);
-        volumeControl.setValue(-20.0f);
+    @Override
+    public synchronized void onGameStart() {
+        playMusic(BACKGROUND_MUSIC, BACKGROUND_MUSIC_GAIN);
+    }
 
-        this.gameStateClip.loop(Clip.LOOP_CONTINUOUSLY);
-        gameStateClip.start();
+    @Override
+    public synchronized void onGameOver() {
+        mixer.stop(musicVoice);
+        playMusic(GAME_OVER_MUSIC, GAME_OVER_MUSIC_GAIN);
     }
 
     @Override
-    public void onGamePaused() {
-        gameStateClip.stop();
+    public synchronized void onGamePaused() {
+        mixer.setPaused(musicVoice, true);
     }
 
     @Override
-    public void onGameResume() {
-        gameStateClip.start();
+    public synchronized void onGameResume() {
+        mixer.setPaused(musicVoice, false);
     }
 
     @Override
-    public void onShoot() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-        this.soundEffectFilePath = PROJECTILE_SHOT;
-        soundEffectsClip = getSoundEffectClip(this.soundEffectFilePath);
-        soundEffectsClip.open(soundEffectAudioInputStream);
-        soundEffectsClip.start();
+    public void onShoot() {
+        soundBank.play(SoundEffect.PROJECTILE_SHOT);
     }
 
     /**
-     * Given a file path, returns a clip taken from the given file path.
-     * @param filePath The file path.
-     * @return A Clip object provided with the desired file path.
-     * @throws UnsupportedAudioFileException If the audio type is not supported.
-     * @throws IOException If the audio file was not imported properly.
-     * @throws LineUnavailableException
+     * stops the music and frees its voice of the mixer, the music that is asked for afterwards is not played. the
+     * mixer is shared by every game, so a game that is closed must not keep its looping game over music.
      */
-    private Clip getSoundEffectClip(String filePath) throws UnsupportedAudioFileException, IOException,
-            LineUnavailableException{
-        soundEffectAudioInputStream = AudioSystem.getAudioInputStream(new File(filePath));
-        return AudioSystem.getClip();
+    public synchronized void stopMusic() {
+        musicStopped = true;
+        mixer.stop(musicVoice);
+        musicVoice = -1;
     }
-    /**
-     * Given a file path, returns a clip taken from the given file path.
-     * @param filePath The file path.
-     * @return A Clip object provided with the desired file path.
-     * @throws UnsupportedAudioFileException If the audio type is not supported.
-     * @throws IOException If the audio file was not imported properly.
-     * @throws LineUnavailableException
-     */
-    private Clip getGameStateClip(String filePath) throws UnsupportedAudioFileException, IOException,
-            LineUnavailableException{
-        gameStateAudioInputStream = AudioSystem.getAudioInputStream(new File(filePath));
-        return AudioSystem.getClip();
+
+    private void playMusic(String filePath, float gain) {
+        if (musicStopped)
+            return;
+        MixerSound music = soundBank.getMusic(filePath);
+        if (music == null)
+            return;
+        // the music takes the voice of an effect rather than be skipped when the effects use every voice
+        musicVoice = mixer.playOverEffects(music, gain, true);
+        if (musicVoice < 0)
+            logger.warn("no voice of the mixer is free for the music " + filePath);
     }
 }
@@ -0,0 +1,28 @@
+package services.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * the wall clock of the machine.
+ */
+public class SystemClock implements GameClock {
+
+    private static final SystemClock instance = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    public static SystemClock getInstance() {
+        return instance;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+}
@@ -0,0 +1,30 @@
+package services.utils;
+
+/**
+ * a clock that only moves when it is asked to. sleeping on this clock returns immediately after moving the time
+ * forward, which lets the game loop run as fast as the machine allows while still seeing fixed time steps.
+ */
+public class VirtualClock implements GameClock {
+
+    private long currentNanos;
+
+    @Override
+    public long nanoTime() {
+        return currentNanos;
+    }
+
+    @Override
+    public void sleep(long nanos) {
+        advance(nanos);
+    }
+
+    /**
+     * moves the clock forward.
+     *
+     * @param nanos the amount of time to move in nanoseconds. negative values are ignored.
+     */
+    public void advance(long nanos) {
+        if (nanos > 0)
+            currentNanos += nanos;
+    }
+}
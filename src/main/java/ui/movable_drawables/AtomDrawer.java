@@ -13,10 +13,13 @@ public class AtomDrawer implements Drawable {
 
     private final Atom atom;
     private final Image atomImage;
+    private final double width, height;
 
     public AtomDrawer(Atom atom) {
         this.atom = atom;
         this.atomImage = ImageResources.get(atom);
+        this.width = atom.getHitbox().getWidth();
+        this.height = atom.getHitbox().getHeight();
     }
 
     /**
@@ -24,13 +27,8 @@ public class AtomDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(atom.getCoordinates(),
-                atom.getHitbox().getWidth(),
-                atom.getHitbox().getHeight());
-
-        g.drawImage(atomImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
-
+    public void draw(Graphics g, double x, double y, double rotationDegree) {
+        g.drawImage(atomImage, (int) (x - width / 2), (int) (y - height / 2), null);
     }
 
     /**
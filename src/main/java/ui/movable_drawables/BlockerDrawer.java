@@ -14,10 +14,15 @@ public class BlockerDrawer implements Drawable {
 
     private final Blocker blocker;
     private final Image blockerImage;
+    private final double width, height;
 
     public BlockerDrawer(Blocker blocker) {
         this.blocker = blocker;
         this.blockerImage = ImageResources.get(blocker);
+        // the disco blocker images are twice the size of the hitbox
+        double scale = Configuration.snapshot().isDiscoTheme() ? 2 : 1;
+        this.width = scale * blocker.getHitbox().getWidth();
+        this.height = scale * blocker.getHitbox().getHeight();
     }
 
     /**
@@ -25,19 +30,8 @@ public class BlockerDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
-        Coordinates drawingCoordinates;
-        if (Configuration.getInstance().isDiscoTheme())
-
-            drawingCoordinates = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                    2 * blocker.getHitbox().getWidth(),
-                    2 * blocker.getHitbox().getHeight());
-        else
-            drawingCoordinates = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                    blocker.getHitbox().getWidth(),
-                    blocker.getHitbox().getHeight());
-
-        g.drawImage(blockerImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+    public void draw(Graphics g, double x, double y, double rotationDegree) {
+        g.drawImage(blockerImage, (int) (x - width / 2), (int) (y - height / 2), null);
     }
 
     /**
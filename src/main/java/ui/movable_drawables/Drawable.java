@@ -5,11 +5,15 @@ import java.awt.*;
 public interface Drawable {
 
     /**
-     * Draws objects in the game space
+     * Draws objects in the game space. the position and rotation come from a render snapshot, never from the
+     * entity itself, which the game loop may be moving at the same time.
      *
-     * @param g Graphics instance passed to be used in drawing
+     * @param g              Graphics instance passed to be used in drawing
+     * @param x              the x coordinate of the center of the entity
+     * @param y              the y coordinate of the center of the entity
+     * @param rotationDegree the rotation of the entity in degrees
      */
-    void draw(Graphics g);
+    void draw(Graphics g, double x, double y, double rotationDegree);
 
     /**
      * Draws the hitbox of the entity in the game space
@@ -16,8 +16,6 @@ public class DrawableFactory {
                 return new AtomDrawer((Atom) entity);
             case BLOCKER:
                 return new BlockerDrawer((Blocker) entity);
-            case SHOOTER:
-                return new ShooterDrawer((Shooter) entity);
             case POWERUP:
                 return new PowerupDrawer((Powerup) entity);
             default:
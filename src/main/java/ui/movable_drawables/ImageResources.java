@@ -21,9 +21,9 @@ import java.io.IOException;
  */
 public class ImageResources {
 
-    private static final Configuration config = Configuration.getInstance();
-    private static final String theme = config.getTheme();
     private static final Logger logger = Logger.getLogger("ImageResources");
+    private static final long SPRITE_CACHE_BYTES = 64L * 1024 * 1024;
+    private static final SpriteCache sprites = new SpriteCache(SPRITE_CACHE_BYTES, ImageResources::loadSprite);
 
     /**
      * @param entity the entity that needs an image to draw itself
@@ -38,11 +38,11 @@ public class ImageResources {
             case ATOM:
             case POWERUP:
                 AutonomousEntity a = (AutonomousEntity) entity;
-                return getImage(a.getSuperType() + "/" + a.getEntityType() + ".png", width, height);
+                return get(a.getSuperType(), a.getEntityType(), width, height);
 
             case BLOCKER:
                 AutonomousEntity b = (AutonomousEntity) entity;
-                if (config.isDiscoTheme())
+                if (Configuration.snapshot().isDiscoTheme())
                     return getImage(b.getSuperType() + "/" + b.getEntityType() + ".png", 2 * width, 2 * height);
                 else
                     return getImage(b.getSuperType() + "/" + b.getEntityType() + ".png", width, height);
@@ -64,6 +64,24 @@ public class ImageResources {
     }
 
 
+    /**
+     * @param molecule a spinning molecule
+     * @return the image of the molecule in every orientation the molecules spin to
+     */
+    public static RotatedSprite getRotated(Molecule molecule) {
+        int width = (int) molecule.getHitbox().getWidth();
+        int height = (int) molecule.getHitbox().getHeight();
+        String asset = molecule.getSuperType() + "/" + molecule.getEntityType() + molecule.getStructure() + ".png";
+        return new RotatedSprite(sprites, Configuration.snapshot().getTheme(), asset, width, height);
+    }
+
+    /**
+     * @return the image of an atom or a powerup of the given type with the specified dimensions
+     */
+    public static Image get(SuperType superType, EntityType entityType, int width, int height) {
+        return getImage(superType + "/" + entityType + ".png", width, height);
+    }
+
     /**
      * @param type of the icon to be returned
      * @param size that will be used to scale the icon
@@ -87,21 +105,42 @@ public class ImageResources {
      * @param image  the name of the image to be returned
      * @param width  the width of the image after scaling
      * @param height the height of the image after scaling
-     * @return an image to draw in the space
+     * @return an image to draw in the space, shared by everyone who asks for the same image and size
      */
     private static Image getImage(String image, int width, int height) {
+        return sprites.get(Configuration.snapshot().getTheme(), image, width, height);
+    }
+
+    /**
+     * reads an image from the assets of its theme and scales it, or rotates the scaled image for a rotated copy.
+     * only called when the image is not cached.
+     */
+    private static BufferedImage loadSprite(SpriteCache.Key key) {
+        if (key.getOrientation() != SpriteCache.Key.UNROTATED)
+            return RotatedSprite.rotate(sprites.get(key.getTheme(), key.getAsset(), key.getWidth(), key.getHeight()),
+                    key.getWidth(), key.getHeight(), key.getOrientation());
+        String path = getPath(key.getTheme()) + key.getAsset();
         BufferedImage img;
         try {
-            img = ImageIO.read(new File(getPath() + image));
+            img = ImageIO.read(new File(path));
         } catch (IOException e) {
-            logger.error("error retrieving image: " + e.getMessage() + " - image: " + image + " - path: " + getPath() + image);
-            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            img = null;
+            logger.error("error retrieving image: " + e.getMessage() + " - image: " + key.getAsset() + " - path: " + path);
         }
-        return img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
+        if (img == null)
+            return new BufferedImage(key.getWidth(), key.getHeight(), BufferedImage.TYPE_INT_RGB);
+        return SpriteCache.toSprite(img, key.getWidth(), key.getHeight());
+    }
+
+    /**
+     * @return the cache of the scaled images, with its hit and miss counters
+     */
+    public static SpriteCache getSpriteCache() {
+        return sprites;
     }
 
     public static Image getPauseIndicator() {
-        double width = config.getGameWidth() / 5.0;
+        double width = Configuration.snapshot().getGameWidth() / 5.0;
         double height = width * 86.0 / 407.0;
 
         return getImage("paused.png", (int) width, (int) height);
@@ -113,11 +152,15 @@ public class ImageResources {
     }
 
     private static String getPath() {
+        return getPath(Configuration.snapshot().getTheme());
+    }
+
+    private static String getPath(String theme) {
         return System.getProperty("user.dir") + "/assets/" + theme + "/";
     }
 
     public static Image backGround(int width, int height, boolean gameOver) {
-        if (theme.equalsIgnoreCase("Disco"))
+        if (Configuration.snapshot().getTheme().equalsIgnoreCase("Disco"))
             return gameOver ?
                     getGif("game_over", width, height) :
                     getGif("kuvid_bc", width, height);
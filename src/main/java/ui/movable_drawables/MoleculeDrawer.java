@@ -15,10 +15,16 @@ public class MoleculeDrawer implements Drawable {
 
     private final Molecule molecule;
     private final Image moleculeImage;
+    private final double width, height;
+    // the pre-rotated images of a spinning molecule, null if the molecule does not spin
+    private final RotatedSprite rotatedImage;
 
     public MoleculeDrawer(Molecule molecule) {
         this.molecule = molecule;
         this.moleculeImage = ImageResources.get(molecule);
+        this.width = molecule.getHitbox().getWidth();
+        this.height = molecule.getHitbox().getHeight();
+        this.rotatedImage = molecule.isSpinnable() ? ImageResources.getRotated(molecule) : null;
     }
 
     /**
@@ -26,14 +32,21 @@ public class MoleculeDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, double x, double y, double rotationDegree) {
+        if (rotatedImage != null) {
+            // a spinning molecule is at one of the orientations of its pre-rotated images
+            int orientation = rotatedImage.getTable().orientationOf(rotationDegree);
+            if (orientation >= 0) {
+                int half = rotatedImage.getSize() / 2;
+                g.drawImage(rotatedImage.get(orientation), (int) x - half, (int) y - half, null);
+                return;
+            }
+        }
         // rotate the molecule
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
-        g2d.rotate(Math.toRadians(molecule.getRotationDegree()), molecule.getCoordinates().getPoint().x, molecule.getCoordinates().getPoint().y);
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(molecule.getCoordinates(),
-                molecule.getHitbox().getWidth(), molecule.getHitbox().getHeight());
-        g2d.drawImage(moleculeImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+        g2d.rotate(Math.toRadians(rotationDegree), (int) x, (int) y);
+        g2d.drawImage(moleculeImage, (int) (x - width / 2), (int) (y - height / 2), null);
         g2d.setTransform(old);
 
     }
@@ -15,10 +15,13 @@ public class PowerupDrawer implements Drawable {
 
     private final Powerup powerup;
     private final Image powerupImage;
+    private final double width, height;
 
     public PowerupDrawer(Powerup powerup) {
         this.powerup = powerup;
         this.powerupImage = ImageResources.get(powerup);
+        this.width = powerup.getHitbox().getWidth();
+        this.height = powerup.getHitbox().getHeight();
     }
 
     /**
@@ -26,18 +29,13 @@ public class PowerupDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, double x, double y, double rotationDegree) {
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
 
-        g2d.rotate(Math.toRadians(powerup.getHitbox().getRotationDegree()),
-                (int) powerup.getCoordinates().getX(),
-                (int) powerup.getCoordinates().getY());
+        g2d.rotate(Math.toRadians(rotationDegree), (int) x, (int) y);
 
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(powerup.getCoordinates(),
-                powerup.getHitbox().getWidth(),
-                powerup.getHitbox().getHeight());
-        g2d.drawImage(powerupImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+        g2d.drawImage(powerupImage, (int) (x - width / 2), (int) (y - height / 2), null);
 
         g2d.setTransform(old);
     }
@@ -0,0 +1,82 @@
+package ui.movable_drawables;
+
+import model.game_physics.hitbox.RotationTable;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * A sprite in every orientation of the {@link RotationTable#GAME game rotation table}. The rotated copy of an
+ * orientation is drawn the first time it is asked for, after that drawing the sprite at that rotation is a plain
+ * image copy instead of a transformed drawing. The copies are square and large enough for the sprite at any
+ * rotation, with the center of the sprite in their center. They are kept in the {@link SpriteCache}, so they count
+ * against its memory like any other sprite.
+ */
+public class RotatedSprite {
+
+    private final SpriteCache cache;
+    private final String theme;
+    private final String asset;
+    private final int width, height;
+    private final int size;
+
+    /**
+     * @param cache  the cache of the sprite and of its rotated copies
+     * @param theme  the theme of the sprite
+     * @param asset  the asset of the sprite, its center is the center of the rotation
+     * @param width  the width of the sprite
+     * @param height the height of the sprite
+     */
+    public RotatedSprite(SpriteCache cache, String theme, String asset, int width, int height) {
+        this.cache = cache;
+        this.theme = theme;
+        this.asset = asset;
+        this.width = width;
+        this.height = height;
+        this.size = sizeOf(width, height);
+    }
+
+    /**
+     * @return the side of the square rotated copies
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public RotationTable getTable() {
+        return RotationTable.GAME;
+    }
+
+    /**
+     * @param orientation an orientation of the rotation table
+     * @return the sprite rotated to the orientation
+     */
+    public BufferedImage get(int orientation) {
+        return cache.get(theme, asset, width, height, orientation);
+    }
+
+    private static int sizeOf(int width, int height) {
+        // an even size puts the center of the copies on a pixel corner, like the center of the rotated drawing
+        return 2 * (int) Math.ceil(Math.hypot(width, height) / 2);
+    }
+
+    /**
+     * draws a sprite rotated to an orientation of the game rotation table into a new square image.
+     */
+    public static BufferedImage rotate(Image sprite, int width, int height, int orientation) {
+        int size = sizeOf(width, height);
+        BufferedImage rotated = SpriteCache.createCompatibleImage(size, size);
+        Graphics2D g = rotated.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        double cos = RotationTable.GAME.cos(orientation);
+        double sin = RotationTable.GAME.sin(orientation);
+        AffineTransform transform = AffineTransform.getTranslateInstance(size / 2.0, size / 2.0);
+        transform.concatenate(new AffineTransform(cos, sin, -sin, cos, 0, 0));
+        transform.translate(-width / 2.0, -height / 2.0);
+        g.drawImage(sprite, transform, null);
+        g.dispose();
+        return rotated;
+    }
+}
@@ -1,10 +1,13 @@
 package ui.movable_drawables;
 
+import model.game_building.ConfigSnapshot;
 import model.game_building.Configuration;
 import model.game_building.GameConstants;
-import model.game_entities.Projectile;
 import model.game_entities.Shooter;
 import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_physics.hitbox.RotationTable;
+import model.game_running.RenderSnapshot;
 import model.game_running.listeners.ShooterEventListener;
 import services.utils.Coordinates;
 import services.utils.MathUtils;
@@ -15,24 +18,34 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 /**
- * This class is responsible for drawing the Shooter given the Shooter entity in the constructor
+ * This class is responsible for drawing the Shooter given the Shooter entity in the constructor.
+ * The shooter is drawn from the render snapshot of a tick, only its size is read from the entity.
  */
-public class ShooterDrawer implements Drawable, ShooterEventListener {
+public class ShooterDrawer implements ShooterEventListener {
 
     private final Shooter shooter;
     private final Image shooterBase;
     private final Image shooterImageGif, shootingAnim;
     private final Image belt, beltAnim;
-    private final Configuration config;
+    private final ConfigSnapshot config;
     private final java.util.Timer timer = new Timer();
     private Image currentBeltImg;
     private Image currentImg;
     private Image[] shieldsImages;
+    private final double width, height;
+    // the image of the projectile on the tip of the shooter, only looked up again when the projectile changes
+    private SuperType projectileSuperType;
+    private EntityType projectileEntityType;
+    private Image projectileImage;
+    // the rotations of the shooter, made the first time the shooter turns to them
+    private final AffineTransform[] rotations = new AffineTransform[RotationTable.GAME.getOrientationCount()];
 
     public ShooterDrawer(Shooter shooter) {
         this.shooter = shooter;
         this.shooter.setShooterListener(this);
-        this.config = Configuration.getInstance();
+        this.config = Configuration.snapshot();
+        this.width = shooter.getHitbox().getWidth();
+        this.height = shooter.getHitbox().getHeight();
         this.shooterBase = ImageResources.get("shooter_base", (int) (shooter.getHitbox().getHeight() * 1.5), (int) shooter.getHitbox().getHeight());
         this.shooterImageGif = ImageResources.getGif("shooter", (int) shooter.getHitbox().getWidth(), (int) shooter.getHitbox().getHeight());
         this.shootingAnim = ImageResources.getGif("shootinganim", (int) shooter.getHitbox().getWidth(), (int) shooter.getHitbox().getHeight());
@@ -53,20 +66,14 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
     /**
      * draw shooter on the game view
      * @param g Graphics instance passed to be used in drawing
+     * @param snapshot the state of the shooter to be drawn
      */
-    @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, RenderSnapshot snapshot) {
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
 
-        Projectile projectile = shooter.getCurrentProjectile();
-
-        //get drawing coordinates of shooter
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(
-                shooter.getCoordinates(),
-                shooter.getHitbox().getWidth(),
-                shooter.getHitbox().getHeight());
-
+        double x = snapshot.getShooterX();
+        double y = snapshot.getShooterY();
 
         //draw base if the theme is disco theme
         if (config.isDiscoTheme()) {
@@ -74,48 +81,45 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
             g.drawImage(currentBeltImg, (int) (0.2 * config.getUnitL()), (int) (config.getGameHeight() - config.getUnitL() * 0.45), null);
 
             g2d.drawImage(shooterBase,
-                    (int) (shooter.getCoordinates().getX() - 0.5 * shooterBase.getWidth(null)),
+                    (int) (x - 0.5 * shooterBase.getWidth(null)),
                     (int) (config.getGameHeight() - config.getUnitL() * 1.25),
                     null);
         }
 
         //rotate the graphics according to shooter angle
-        g2d.rotate(Math.toRadians(
-                shooter.getAngle()),
-                (shooter.getCoordinates().getPoint().x),
-                (int) (shooter.getCoordinates().getPoint().y + shooter.getHitbox().getHeight() * 0.25));
+        rotate(g2d, snapshot.getShooterAngle(), (int) x, (int) ((int) y + height * 0.25));
 
         //draw shooter image
-        g2d.drawImage(
-                currentImg,
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                null);
+        g2d.drawImage(currentImg, (int) (x - width / 2), (int) (y - height / 2), null);
 
         //draw projectile
-        if (projectile != null) {
-            Coordinates projectileCoordinates = MathUtils.drawingCoordinates(
-                    shooter.getCoordinates(),
-                    0, projectile.getHitbox().getHeight() + shooter.getHitbox().getHeight());
-            projectile.setCoordinates(projectileCoordinates);
+        SuperType superType = snapshot.getProjectileSuperType();
+        if (superType != null) {
+            double projectileWidth = snapshot.getProjectileWidth();
+            double projectileHeight = snapshot.getProjectileHeight();
+            // the projectile sits on the tip of the shooter
+            double projectileY = y - (projectileHeight + height) / 2;
+            int drawingX = (int) (x - projectileWidth / 2);
+            int drawingY = (int) (projectileY - projectileHeight / 2);
 
             //draw the atom on tip of the shooter
-            DrawableFactory.get(projectile).draw(g2d);
+            if (superType != projectileSuperType || snapshot.getProjectileEntityType() != projectileEntityType) {
+                projectileSuperType = superType;
+                projectileEntityType = snapshot.getProjectileEntityType();
+                projectileImage = ImageResources.get(superType, projectileEntityType,
+                        (int) projectileWidth, (int) projectileHeight);
+            }
+            g2d.drawImage(projectileImage, drawingX, drawingY, null);
 
             //draw shield on top of the atom
-            if (shooter.isAtomShielded()) {
+            if (snapshot.isProjectileShielded()) {
                 if (shieldsImages == null)
-                    setShieldsImages((int) projectile.getHitbox().getWidth());
-
-                Coordinates shieldDrawingCoordinates = MathUtils.drawingCoordinates(
-                        projectile.getCoordinates(),
-                        projectile.getHitbox().getWidth(),
-                        projectile.getHitbox().getHeight());
+                    setShieldsImages((int) projectileWidth);
 
                 g.drawImage(
-                        shieldsImages[projectile.getEntityType().getValue()],
-                        shieldDrawingCoordinates.getPoint().x,
-                        shieldDrawingCoordinates.getPoint().y,
+                        shieldsImages[projectileEntityType.getValue()],
+                        drawingX,
+                        drawingY,
                         null);
             }
         }
@@ -123,6 +127,27 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
         g2d.setTransform(old);
     }
 
+    /**
+     * rotates the graphics around a point. the shooter turns by whole steps, so its rotations come from the
+     * rotation table instead of being computed every frame. the shooter image is animated, so it is drawn with the
+     * rotation instead of being rotated in advance.
+     */
+    private void rotate(Graphics2D g2d, double angle, int x, int y) {
+        int orientation = RotationTable.GAME.orientationOf(angle);
+        if (orientation < 0) {
+            g2d.rotate(Math.toRadians(angle), x, y);
+            return;
+        }
+        if (rotations[orientation] == null) {
+            double cos = RotationTable.GAME.cos(orientation);
+            double sin = RotationTable.GAME.sin(orientation);
+            rotations[orientation] = new AffineTransform(cos, sin, -sin, cos, 0, 0);
+        }
+        g2d.translate(x, y);
+        g2d.transform(rotations[orientation]);
+        g2d.translate(-x, -y);
+    }
+
     /**
      * draw a hit box around the shooter on the game view
      * @param g Graphics instance passed to be used in drawing
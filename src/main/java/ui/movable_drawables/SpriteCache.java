@@ -0,0 +1,207 @@
+package ui.movable_drawables;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the scaled sprites of the game, so that an image is read from disk and scaled only once per size.
+ * The sprites are stored in an image format compatible with the screen, which makes drawing them a plain copy.
+ * The rotated copies of the spinning sprites are cached next to them, one per orientation.
+ * The cache is bounded by the memory of the stored pixels, the least recently used sprites are dropped first.
+ * The returned images are shared and must not be drawn on.
+ */
+public class SpriteCache {
+
+    private final long maxBytes;
+    private final Function<Key, BufferedImage> loader;
+    // access ordered, so the first entry is always the least recently used one
+    private final LinkedHashMap<Key, BufferedImage> sprites = new LinkedHashMap<>(64, 0.75f, true);
+    // the key of the lookups, so that finding a cached sprite does not allocate
+    private final Key probe = new Key("", "", 1, 1, Key.UNROTATED);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxBytes the memory the cached pixels may use
+     * @param loader   creates the sprite of a key that is not cached
+     */
+    public SpriteCache(long maxBytes, Function<Key, BufferedImage> loader) {
+        this.maxBytes = maxBytes;
+        this.loader = loader;
+    }
+
+    public BufferedImage get(String theme, String asset, int width, int height) {
+        return get(theme, asset, width, height, Key.UNROTATED);
+    }
+
+    /**
+     * @param orientation the orientation of the rotated copy in the rotation table of the game, or
+     *                    {@link Key#UNROTATED} for the sprite itself
+     */
+    public synchronized BufferedImage get(String theme, String asset, int width, int height, int orientation) {
+        probe.set(theme, asset, Math.max(1, width), Math.max(1, height), orientation);
+        BufferedImage sprite = sprites.get(probe);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        misses++;
+        Key key = new Key(theme, asset, probe.width, probe.height, orientation);
+        // the loader of a rotated copy may look up the sprite it rotates, which reuses the probe
+        sprite = loader.apply(key);
+        sprites.put(key, sprite);
+        bytes += sizeOf(sprite);
+        evict();
+        return sprite;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, BufferedImage>> iterator = sprites.entrySet().iterator();
+        // the sprite just added is always kept, even if it is larger than the whole cache
+        while (bytes > maxBytes && sprites.size() > 1) {
+            bytes -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(BufferedImage sprite) {
+        return (long) sprite.getWidth() * sprite.getHeight() * 4;
+    }
+
+    public synchronized void clear() {
+        sprites.clear();
+        bytes = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return sprites.size();
+    }
+
+    /**
+     * scales an image into a new image that is compatible with the screen, or a translucent image when there
+     * is no screen. large reductions are done in halving steps, which keeps the quality close to a smooth
+     * scaling at a fraction of its cost.
+     */
+    public static BufferedImage toSprite(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = createCompatibleImage(currentWidth, currentHeight);
+            Graphics2D g = step.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            g.dispose();
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless())
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * identifies a sprite by the theme and the asset it was read from, its size after scaling and its orientation.
+     */
+    public static final class Key {
+        public static final int UNROTATED = -1;
+
+        private String theme;
+        private String asset;
+        private int width;
+        private int height;
+        private int orientation;
+
+        Key(String theme, String asset, int width, int height, int orientation) {
+            set(theme, asset, width, height, orientation);
+        }
+
+        // only the lookup key of the cache is changed, the keys in the map never are
+        private void set(String theme, String asset, int width, int height, int orientation) {
+            this.theme = theme;
+            this.asset = asset;
+            this.width = width;
+            this.height = height;
+            this.orientation = orientation;
+        }
+
+        public String getTheme() {
+            return theme;
+        }
+
+        public String getAsset() {
+            return asset;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * @return the orientation of a rotated copy, {@link #UNROTATED} for the sprite itself
+         */
+        public int getOrientation() {
+            return orientation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return width == key.width && height == key.height && orientation == key.orientation &&
+                    theme.equals(key.theme) && asset.equals(key.asset);
+        }
+
+        @Override
+        public int hashCode() {
+            // no varargs array, the lookups do not allocate
+            int hash = theme.hashCode();
+            hash = 31 * hash + asset.hashCode();
+            hash = 31 * hash + width;
+            hash = 31 * hash + height;
+            return 31 * hash + orientation;
+        }
+
+        @Override
+        public String toString() {
+            return theme + "/" + asset + " " + width + "x" + height +
+                    (orientation == UNROTATED ? "" : " orientation " + orientation);
+        }
+    }
+}
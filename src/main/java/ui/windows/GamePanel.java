@@ -1,32 +1,41 @@
 package ui.windows;
 
+import model.game_building.ConfigSnapshot;
 import model.game_building.Configuration;
-import model.game_entities.AutonomousEntity;
 import model.game_running.GameCommandListener;
+import model.game_running.RenderSnapshot;
 import model.game_running.RunningMode;
+import services.metrics.GameMetrics;
+import services.metrics.TimingRecorder;
 import ui.movable_drawables.Drawable;
 import ui.movable_drawables.ImageResources;
 import ui.movable_drawables.ShooterDrawer;
 
-import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferStrategy;
 import java.util.Map;
 
-public class GamePanel extends JPanel {
+/**
+ * The game view. It is drawn actively by the {@link RenderLoop} into a back buffer, instead of waiting for
+ * Swing to repaint it, so painting never runs on the event dispatch thread.
+ */
+public class GamePanel extends Canvas {
+    private static final int BUFFERS = 2;
+
     RunningMode runningMode;
     GameCommandListener commandListener;
-    private Map<AutonomousEntity, Drawable> drawableMap;
+    private Map<Integer, Drawable> drawableMap; // by entity id
     ShooterDrawer shooterDrawer;
-    Graphics graphics;
-    private boolean showPausedIndicator;
+    private volatile boolean showPausedIndicator;
+    private volatile Image background;
+    private final TimingRecorder paintTiming = GameMetrics.getInstance().recorder(GameMetrics.PAINT);
 
-    public GamePanel(RunningMode runningMode, Map<AutonomousEntity, Drawable> drawableMap) {
+    public GamePanel(RunningMode runningMode, Map<Integer, Drawable> drawableMap) {
         this.setPreferredSize(Configuration.getInstance().getGamePanelDimensions());
         this.runningMode = runningMode;
         this.setFocusable(true);
-        this.requestFocusInWindow();
+        this.setIgnoreRepaint(true); // the render loop draws every frame
         this.drawableMap = drawableMap;
-        this.setOpaque(false);
         this.shooterDrawer = new ShooterDrawer(runningMode.getShooter());
         this.commandListener = new GameCommandListener(this.runningMode);
         this.addKeyListener(commandListener);
@@ -37,32 +46,84 @@ public class GamePanel extends JPanel {
     }
 
 
-    public void reset(Map<AutonomousEntity, Drawable> drawableMap) {
+    public void reset(Map<Integer, Drawable> drawableMap) {
         this.drawableMap = drawableMap;
         this.shooterDrawer = new ShooterDrawer(runningMode.getShooter());
     }
 
-    @Override
-    public void paint(Graphics g) {
-        graphics = g;
-        super.paintComponents(g);
-        shooterDrawer.draw(g);
+    /**
+     * @param background the background of the window, the part behind the game view is drawn under the entities
+     */
+    public void setBackgroundImage(Image background) {
+        this.background = background;
+    }
+
+    /**
+     * draws one frame into the back buffer and shows it. only the render loop calls this.
+     *
+     * @return false if the panel is not on the screen yet and nothing was drawn
+     */
+    public boolean render() {
+        if (!isDisplayable())
+            return false;
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createBufferStrategy(BUFFERS);
+            return false;
+        }
+        long paintStart = System.nanoTime();
+        // the buffers can be lost at any time (e.g. when the display changes), redraw until a frame is shown
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    drawFrame(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        paintTiming.recordSince(paintStart);
+        return true;
+    }
+
+    private void drawFrame(Graphics g) {
+        Image background = this.background;
+        Container parent = getParent();
+        if (background != null && parent != null)
+            g.drawImage(background, -getX(), -getY(), parent.getWidth(), parent.getHeight(), this);
+        // a frame is drawn from the snapshot of the last completed tick, never from the entities themselves
+        RenderSnapshot snapshot = runningMode.getRenderSnapshot();
+        shooterDrawer.draw(g, snapshot);
         //shooterDrawer.drawHitbox(g);
-        drawableMap.values().forEach(drawable -> {
-            drawable.draw(g);
+        for (int i = 0; i < snapshot.size(); i++) {
+            // entities removed in the tick after the snapshot have no drawable anymore
+            Drawable drawable = drawableMap.get(snapshot.getId(i));
+            if (drawable != null)
+                drawable.draw(g, snapshot.getX(i), snapshot.getY(i), snapshot.getRotation(i));
             //for demonstration, draw the hitboxes of the entities
             //drawable.drawHitbox(g);
+        }
+        if (showPausedIndicator) {
+            drawIndicator(g);
+        }
+    }
 
-            if (showPausedIndicator) {
-                drawIndicator(g);
-            }
-        });
+    /**
+     * animated images report every new frame here. the render loop draws them, so no repaint is requested.
+     */
+    @Override
+    public boolean imageUpdate(Image img, int infoflags, int x, int y, int w, int h) {
+        return (infoflags & (ALLBITS | ABORT)) == 0;
     }
 
     private void drawIndicator(Graphics g) {
         Image indicatorImage = ImageResources.getPauseIndicator();
-        int xLocation = (int) (Configuration.getInstance().getGamePanelDimensions().getWidth() / 2 - indicatorImage.getWidth(this) / 2);
-        int yLocation = Configuration.getInstance().getGameHeight() / 2 - indicatorImage.getHeight(this) / 2;
+        ConfigSnapshot config = Configuration.snapshot();
+        int xLocation = config.getGamePanelWidth() / 2 - indicatorImage.getWidth(this) / 2;
+        int yLocation = config.getGameHeight() / 2 - indicatorImage.getHeight(this) / 2;
         g.drawImage(indicatorImage, xLocation, yLocation, this);
     }
 
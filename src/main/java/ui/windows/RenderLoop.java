@@ -0,0 +1,94 @@
+package ui.windows;
+
+import org.apache.log4j.Logger;
+import services.metrics.GameMetrics;
+import services.metrics.TimingRecorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Draws the game panel from its own thread at a fixed frame rate, leaving the event dispatch thread to input.
+ * Every frame has a slot of 1/fps seconds. A frame that is still drawing when its slot ends is late, and the
+ * slots that pass while it draws are dropped, the next frame starts with the next slot instead of catching up.
+ */
+public class RenderLoop implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(RenderLoop.class.getName());
+
+    private final GamePanel panel;
+    private final long frameNanos;
+    private volatile boolean running;
+
+    // statistics, only written by the render thread
+    private volatile long renderedFrames;
+    private volatile long lateFrames;
+    private volatile long droppedFrames;
+
+    public RenderLoop(GamePanel panel, int fps) {
+        this.panel = panel;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / fps;
+    }
+
+    public void start() {
+        running = true;
+        new Thread(this, "render-loop").start();
+    }
+
+    /**
+     * stops the loop after drawing one last frame.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        // the time between two drawn frames, a stutter shows as a long interval
+        TimingRecorder frameTiming = GameMetrics.getInstance().recorder(GameMetrics.DRAWING_LOOP);
+        long lastFrame = 0;
+        long nextFrame = System.nanoTime();
+        while (running) {
+            long frameStart = nextFrame;
+            waitUntil(frameStart);
+
+            long now = System.nanoTime();
+            if (panel.render()) {
+                renderedFrames++;
+                if (lastFrame != 0)
+                    frameTiming.record(now - lastFrame);
+                lastFrame = now;
+            }
+
+            now = System.nanoTime();
+            nextFrame = frameStart + frameNanos;
+            if (now > nextFrame) {
+                lateFrames++;
+                long passedSlots = (now - nextFrame) / frameNanos + 1;
+                droppedFrames += passedSlots;
+                nextFrame += passedSlots * frameNanos;
+            }
+        }
+        panel.render(); // show the final state of the game
+        logger.info("[RenderLoop] stopped after " + renderedFrames + " frames (" + lateFrames + " late, " +
+                droppedFrames + " dropped)");
+    }
+
+    private static void waitUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0)
+            LockSupport.parkNanos(remaining);
+    }
+
+    public long getRenderedFrames() {
+        return renderedFrames;
+    }
+
+    public long getLateFrames() {
+        return lateFrames;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+}
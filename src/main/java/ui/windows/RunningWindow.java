@@ -19,6 +19,7 @@ import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import services.database.IDatabase;
 import services.database.MongoDBAdapter;
+import services.metrics.GameMetrics;
 import services.utils.SoundHandler;
 import ui.movable_drawables.Drawable;
 import ui.movable_drawables.DrawableFactory;
@@ -26,10 +27,11 @@ import ui.movable_drawables.ImageResources;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
 
 /**
  * This class draws the game running window.
@@ -39,14 +41,13 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
     private final RunningMode runningMode;
     private final GamePanel gameContentPanel;
     private final StatisticsPanel statisticsPanel;
-    private boolean running;
     private Configuration config;
     private Image background;
     private final Image background_gameOver;
-    private final Map<AutonomousEntity, Drawable> drawableMap;
+    private final Map<Integer, Drawable> drawableMap; // by entity id
     private final SessionLoadWindow sessionLoadWindow;
     private final SessionSaveWindow saveSessionWindow;
-    private CountDownLatch pauseLatch;
+    private final RenderLoop renderLoop;
     private static Logger logger = Logger.getLogger(RunningWindow.class.getName());;
 
     public RunningWindow(String title) { // TODO: CLEAN: maybe move panel to a separate class.
@@ -57,8 +58,17 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
         this.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         this.sessionLoadWindow = new SessionLoadWindow(this);
         this.saveSessionWindow = new SessionSaveWindow(this);
+        GameMetrics.getInstance().setDumpDirectory(GameMetrics.DEFAULT_DIRECTORY); // a report for every game played
+        SoundHandler soundHandler = new SoundHandler();
         this.runningMode = new RunningMode(this, this, sessionLoadWindow,
-                saveSessionWindow, new SoundHandler());
+                saveSessionWindow, soundHandler);
+        this.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                runningMode.stopAudio();
+                soundHandler.stopMusic(); // the game over music loops until it is stopped
+            }
+        });
         logger.info("in running window" + runningMode.getBlender());
         BlenderWindow blenderWindow = new BlenderWindow(runningMode); // Window that implements the blending listener for the observer pattern
         gameContentPanel = new GamePanel(this.runningMode, drawableMap);
@@ -67,6 +77,8 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
         this.runningMode.setPlayer(player);
         background = ImageResources.backGround(getWidth(), getHeight(), false);
         background_gameOver = ImageResources.backGround(getWidth(), getHeight(), true);
+        gameContentPanel.setBackgroundImage(background);
+        renderLoop = new RenderLoop(gameContentPanel, GameConstants.FPS);
         JPanel backgroundPanel = new JPanel() {
             public void paintComponent(Graphics g) {
                 g.drawImage(background, 0, 0, this.getWidth(), this.getHeight(), this);
@@ -111,28 +123,9 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
      * starts the the game loop (drawing, movement, and collision checks)
      */
     private void start() {
-        running = true; // this will be made false somewhere else (when health or time are over)
-        pauseLatch = new CountDownLatch(0);
+        gameContentPanel.requestFocus();
         runningMode.startThreads();
-        startDrawingThread();
-    }
-
-    private void startDrawingThread() {
-        Thread drawingThread = new Thread(() -> {
-            while (running) {
-                try {
-                    pauseLatch.await();
-                    runningMode.updateTimer(GameConstants.GAME_THREAD_DELAY);
-                    repaint();
-                    if (runningMode.isGameFinished()) runningMode.endGame();
-                    Thread.sleep(GameConstants.GAME_THREAD_DELAY);
-                } catch (InterruptedException ex) {
-                    ex.printStackTrace();
-                }
-            }
-        });
-
-        drawingThread.start();
+        renderLoop.start(); // this will be stopped when the game is over
     }
 
     private void unregisterInputListeners() {
@@ -154,10 +147,8 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
     @Override
     public void onRunningStateChanged(int state) {
         if (state == GameConstants.GAME_STATE_PAUSED) {
-            pauseLatch = new CountDownLatch(1);
             gameContentPanel.showPauseIndicator(true);
         } else {
-            pauseLatch.countDown();
             gameContentPanel.showPauseIndicator(false);
         }
     }
@@ -167,18 +158,20 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
         unregisterInputListeners();
         drawableMap.clear();
         background = background_gameOver;
-        this.running = false;
+        gameContentPanel.setBackgroundImage(background);
+        renderLoop.stop();
     }
 
     @Override
-    public void onEntityAdd(AutonomousEntity entity) {
-        drawableMap.put(entity, DrawableFactory.get(entity));
+    public void onEntitiesAdd(Collection<AutonomousEntity> entities) {
+        for (AutonomousEntity entity : entities)
+            drawableMap.put(entity.getId(), DrawableFactory.get(entity));
     }
 
     @Override
     public void onEntitiesRemove(Collection<AutonomousEntity> entities) {
         for (AutonomousEntity entity : entities)
-            drawableMap.remove(entity);
+            drawableMap.remove(entity.getId());
     }
 
     @Override
@@ -0,0 +1,83 @@
+package model.game_building;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * the configuration most tests run with: one of every atom, powerup, blocker and molecule, no shields and L = 50.
+ * registered with {@code @RegisterExtension} on a static field, it is installed before the tests of the class
+ * and cleared after them.
+ */
+public class ConfigurationFixture implements BeforeAllCallback, AfterAllCallback {
+
+    private boolean linearAlpha;
+    private boolean spinningAlpha;
+    private boolean nothingToDrop;
+    private int difficulty;
+    private String theme = GameConstants.PEPEGA;
+
+    public ConfigurationFixture linearAlpha() {
+        this.linearAlpha = true;
+        return this;
+    }
+
+    public ConfigurationFixture spinningAlpha() {
+        this.spinningAlpha = true;
+        return this;
+    }
+
+    /**
+     * no molecules, blockers or power-ups to drop, for the tests that add the entities themselves.
+     */
+    public ConfigurationFixture nothingToDrop() {
+        this.nothingToDrop = true;
+        return this;
+    }
+
+    public ConfigurationFixture difficulty(int difficulty) {
+        this.difficulty = difficulty;
+        return this;
+    }
+
+    public ConfigurationFixture theme(String theme) {
+        this.theme = theme;
+        return this;
+    }
+
+    public double getUnitL() {
+        return 50;
+    }
+
+    public ConfigBundle bundle() {
+        int drops = nothingToDrop ? 0 : 1;
+        return new ConfigBundle(
+                new ArrayList<>(Arrays.asList(1, 1, 1, 1)),
+                new ArrayList<>(Arrays.asList(drops, drops, drops, drops)),
+                new ArrayList<>(Arrays.asList(drops, drops, drops, drops)),
+                new ArrayList<>(Arrays.asList(drops, drops, drops, drops)),
+                new ArrayList<>(Arrays.asList(0, 0, 0, 0)),
+                getUnitL(), linearAlpha, false, spinningAlpha, false, difficulty, theme);
+    }
+
+    public void install() {
+        Configuration.getInstance().reset(bundle());
+    }
+
+    public static void clear() {
+        Configuration.getInstance().reset(null); // other tests expect an empty configuration
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        install();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        clear();
+    }
+}
@@ -60,4 +60,29 @@ class ConfigurationTest {
         assertEquals(Configuration.getInstance().getNumAlphaAtoms(), 1);
         assertNotEquals(Configuration.getInstance().getNumBetaAtoms(), 3);
     }
-}
\ No newline at end of file
+
+    @Test
+    void snapshotIsReplacedOnReset() {
+        try {
+            new ConfigurationFixture().linearAlpha().spinningAlpha().difficulty(1).theme(GameConstants.DISCO).install();
+            Configuration config = Configuration.getInstance();
+            ConfigSnapshot snapshot = Configuration.snapshot();
+            assertSame(config.getSnapshot(), snapshot);
+            assertEquals(500, snapshot.getGameHeight());
+            assertEquals(config.getGamePanelDimensions(), snapshot.getGamePanelDimensions());
+            assertEquals(config.getGamePanelDimensions().width, snapshot.getGamePanelWidth());
+            assertEquals(config.getDropRate(), snapshot.getDropRate());
+            assertEquals(config.getShooterSpeed(), snapshot.getShooterSpeed());
+            assertEquals(50 * GameConstants.SHOOTER_HEIGHT, snapshot.getBaseHeight());
+            assertTrue(snapshot.isDiscoTheme());
+
+            Configuration.getInstance().reset(null);
+            assertSame(ConfigSnapshot.EMPTY, Configuration.snapshot());
+            assertEquals(-1, Configuration.snapshot().getUnitL());
+            // a snapshot taken before the reset keeps its values
+            assertEquals(500, snapshot.getGameHeight());
+        } finally {
+            ConfigurationFixture.clear();
+        }
+    }
+}
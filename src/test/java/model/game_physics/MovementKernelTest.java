@@ -0,0 +1,110 @@
+package model.game_physics;
+
+import model.game_building.ConfigurationFixture;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.factories.BlockerFactory;
+import model.game_entities.factories.MoleculeFactory;
+import model.game_entities.factories.PowerupFactory;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.path_patterns.ZigzagPatten;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import services.utils.Coordinates;
+import services.utils.Vector;
+import services.utils.Velocity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovementKernelTest {
+
+    // spinning alpha molecules check that the kernel keeps the extra work of a step
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture().linearAlpha().spinningAlpha();
+
+    private static AutonomousEntity entity(int i) {
+        EntityType type = EntityType.forValue(i % 4);
+        AutonomousEntity entity;
+        switch (i % 3) {
+            case 0:
+                entity = MoleculeFactory.getInstance().getMolecule(type);
+                break;
+            case 1:
+                entity = BlockerFactory.getInstance().getBlocker(type);
+                break;
+            default:
+                entity = PowerupFactory.getInstance().getPowerup(type);
+                break;
+        }
+        entity.setCoordinates(new Coordinates(20 * i, 3 * i));
+        return entity;
+    }
+
+    private static List<AutonomousEntity> entities(int count) {
+        List<AutonomousEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(entity(i));
+        }
+        // a pattern without constant steps is moved by the entity itself
+        Coordinates coords = new Coordinates(500, 0);
+        entities.add(new Atom(coords, new CircularHitbox(1), new ZigzagPatten(new Velocity(1, 1), 7),
+                EntityType.ALPHA, 1.0, 1, 1));
+        return entities;
+    }
+
+    @Test
+    void movesLikeTheEntities() {
+        List<AutonomousEntity> moved = entities(24);
+        List<AutonomousEntity> expected = entities(24);
+        MovementKernel kernel = new MovementKernel();
+
+        for (int tick = 1; tick <= 1500; tick++) {
+            if (tick == 100) {
+                for (int i = 0; i < moved.size(); i += 5) {
+                    moved.get(i).getPathPattern().reflect(new Vector(new Coordinates(-1, 0)));
+                    expected.get(i).getPathPattern().reflect(new Vector(new Coordinates(-1, 0)));
+                }
+            }
+            if (tick == 200) {
+                moved.get(1).setCoordinates(new Coordinates(7, 7));
+                expected.get(1).setCoordinates(new Coordinates(7, 7));
+            }
+            if (tick == 300) {
+                // a new snapshot: one entity removed, one added at the end
+                moved = new ArrayList<>(moved);
+                expected = new ArrayList<>(expected);
+                moved.remove(2);
+                expected.remove(2);
+                moved.add(entity(30));
+                expected.add(entity(30));
+            }
+
+            kernel.move(moved);
+            expected.forEach(AutonomousEntity::move);
+
+            for (int i = 0; i < moved.size(); i++) {
+                assertEquals(expected.get(i).getCoordinates(), moved.get(i).getCoordinates(),
+                        "entity " + i + " after " + tick + " ticks");
+                assertEquals(expected.get(i).getHitbox().getRotationDegree(),
+                        moved.get(i).getHitbox().getRotationDegree());
+            }
+        }
+        assertTrue(kernel.getBatchedCount() > moved.size() / 2);
+    }
+
+    @Test
+    void doesNotAllocateCoordinatesForConstantSteps() {
+        List<AutonomousEntity> entities = entities(12);
+        MovementKernel kernel = new MovementKernel();
+        kernel.move(entities);
+        Coordinates coords = entities.get(3).getCoordinates(); // a SIGMA molecule, always straight
+        kernel.move(entities);
+        kernel.move(entities);
+        assertSame(coords, entities.get(3).getCoordinates());
+        assertSame(coords, entities.get(3).getPathPattern().getCurrentCoords());
+    }
+}
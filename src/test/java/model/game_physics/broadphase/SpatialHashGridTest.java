@@ -0,0 +1,118 @@
+package model.game_physics.broadphase;
+
+import model.game_building.Configuration;
+import model.game_building.ConfigurationFixture;
+import model.game_building.GameConstants;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.factories.AtomFactory;
+import model.game_entities.factories.BlockerFactory;
+import model.game_entities.factories.MoleculeFactory;
+import model.game_entities.factories.PowerupFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import services.utils.Coordinates;
+
+import java.awt.Dimension;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    // linear alpha molecules give rectangular hitboxes next to the circular ones
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture().linearAlpha();
+
+    private static final double L = CONFIGURATION.getUnitL();
+
+    private static List<AutonomousEntity> randomEntities(Random random, int count, Dimension area) {
+        List<AutonomousEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EntityType type = EntityType.forValue(random.nextInt(4));
+            AutonomousEntity entity;
+            switch (random.nextInt(4)) {
+                case 0:
+                    entity = MoleculeFactory.getInstance().getMolecule(type);
+                    break;
+                case 1:
+                    entity = AtomFactory.getInstance().getAtom(type);
+                    break;
+                case 2:
+                    entity = PowerupFactory.getInstance().getPowerup(type);
+                    break;
+                default:
+                    entity = BlockerFactory.getInstance().getBlocker(type);
+                    break;
+            }
+            entity.getHitbox().rotate(random.nextInt(360));
+            // some entities are placed partly outside of the area
+            entity.setCoordinates(new Coordinates(
+                    -L + random.nextDouble() * (area.width + 2 * L),
+                    -L + random.nextDouble() * (area.height + 2 * L)));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static Set<List<AutonomousEntity>> bruteForcePairs(List<AutonomousEntity> entities) {
+        Set<List<AutonomousEntity>> pairs = new HashSet<>();
+        for (AutonomousEntity source : entities)
+            for (AutonomousEntity target : entities)
+                if (source != target && source.isCollidedWith(target))
+                    pairs.add(Arrays.asList(source, target));
+        return pairs;
+    }
+
+    private static Set<List<AutonomousEntity>> gridPairs(SpatialHashGrid<AutonomousEntity> grid,
+                                                         List<AutonomousEntity> entities) {
+        Set<List<AutonomousEntity>> pairs = new HashSet<>();
+        List<List<AutonomousEntity>> candidates = new ArrayList<>();
+        grid.rebuild(entities);
+        grid.forEachCandidatePair((first, second) -> {
+            candidates.add(Arrays.asList(first, second));
+            if (first.isCollidedWith(second))
+                pairs.add(Arrays.asList(first, second));
+            if (second.isCollidedWith(first))
+                pairs.add(Arrays.asList(second, first));
+        });
+        // every candidate pair is reported exactly once
+        assertEquals(candidates.size(), new HashSet<>(candidates).size());
+        return pairs;
+    }
+
+    @Test
+    void sameCollisionsAsBruteForce() {
+        Dimension panel = Configuration.getInstance().getGamePanelDimensions();
+        SpatialHashGrid<AutonomousEntity> grid = new SpatialHashGrid<>(panel.width, panel.height,
+                L * GameConstants.BLOCKER_EXPLOSION_RADIUS);
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            List<AutonomousEntity> entities = randomEntities(random, 50 + random.nextInt(250), panel);
+            Set<List<AutonomousEntity>> expected = bruteForcePairs(entities);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, gridPairs(grid, entities), "seed " + seed);
+        }
+    }
+
+    @Test
+    void sameCollisionsWithSmallCells() {
+        // cells smaller than the entities force them to span many cells
+        Dimension panel = Configuration.getInstance().getGamePanelDimensions();
+        SpatialHashGrid<AutonomousEntity> grid = new SpatialHashGrid<>(panel.width, panel.height, L / 4);
+        Random random = new Random(42);
+        List<AutonomousEntity> entities = randomEntities(random, 200, panel);
+        assertEquals(bruteForcePairs(entities), gridPairs(grid, entities));
+    }
+
+    @Test
+    void distantEntitiesAreNotCandidates() {
+        SpatialHashGrid<AutonomousEntity> grid = new SpatialHashGrid<>(1000, 1000, 100);
+        AutonomousEntity first = AtomFactory.getInstance().getAtom(EntityType.ALPHA);
+        AutonomousEntity second = AtomFactory.getInstance().getAtom(EntityType.BETA);
+        first.setCoordinates(new Coordinates(100, 100));
+        second.setCoordinates(new Coordinates(900, 900));
+        grid.rebuild(Arrays.asList(first, second));
+        grid.forEachCandidatePair((a, b) -> fail("distant entities should not be paired"));
+    }
+}
@@ -27,4 +27,19 @@ class CircularHitboxTest {
         assertTrue(rectHitbox.isInside(ownerCoordinates, point));
     }
 
-}
\ No newline at end of file
+    @Test
+    void intersects() {
+        CircularHitbox circle = new CircularHitbox(3);
+        CircularHitbox other = new CircularHitbox(2);
+
+        assertTrue(circle.intersects(new Coordinates(0, 0), other, new Coordinates(5, 0)));
+        assertTrue(circle.intersects(new Coordinates(0, 0), other, new Coordinates(3, 3)));
+        assertFalse(circle.intersects(new Coordinates(0, 0), other, new Coordinates(4, 4)));
+
+        // a small circle inside a large one has no boundary point inside the small one
+        CircularHitbox small = new CircularHitbox(0.5);
+        assertTrue(small.intersects(new Coordinates(1, 0), circle, new Coordinates(0, 0)));
+        assertFalse(small.isInside(new Coordinates(1, 0), circle.getBoundaryPoints(new Coordinates(0, 0))));
+    }
+
+}
@@ -37,4 +37,78 @@ class RectangularHitboxTest {
         Coordinates entity2Coords = new Coordinates(0,2);
         RectangularHitbox rectHitbox2 = new RectangularHitbox(4, 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void intersectsCircle() {
+        RectangularHitbox rectangle = new RectangularHitbox(4, 2);
+        CircularHitbox circle = new CircularHitbox(1);
+        Coordinates rectangleCoords = new Coordinates(0, 0);
+
+        assertTrue(rectangle.intersects(rectangleCoords, circle, new Coordinates(3, 0)));
+        assertTrue(circle.intersects(new Coordinates(3, 0), rectangle, rectangleCoords));
+        assertFalse(rectangle.intersects(rectangleCoords, circle, new Coordinates(0, 2.5)));
+        // close to the corner but outside of it
+        assertFalse(rectangle.intersects(rectangleCoords, circle, new Coordinates(2.8, 1.8)));
+
+        rectangle.rotate(90);
+        assertTrue(rectangle.intersects(rectangleCoords, circle, new Coordinates(0, 2.5)));
+        assertFalse(rectangle.intersects(rectangleCoords, circle, new Coordinates(2.5, 0)));
+    }
+
+    @Test
+    void intersectsRectangle() {
+        RectangularHitbox first = new RectangularHitbox(4, 2);
+        RectangularHitbox second = new RectangularHitbox(4, 2);
+
+        assertTrue(first.intersects(new Coordinates(0, 0), second, new Coordinates(0, 2)));
+        assertFalse(first.intersects(new Coordinates(0, 0), second, new Coordinates(0, 2.1)));
+
+        // rotated, the second one reaches 2 units up instead of 1
+        second.rotate(90);
+        assertTrue(first.intersects(new Coordinates(0, 0), second, new Coordinates(0, 2.9)));
+        assertFalse(first.intersects(new Coordinates(0, 0), second, new Coordinates(0, 3.1)));
+
+        // a diamond next to a square: the bounding boxes overlap, the shapes do not
+        RectangularHitbox square = new RectangularHitbox(2, 2);
+        RectangularHitbox diamond = new RectangularHitbox(2, 2);
+        diamond.rotate(45);
+        assertFalse(square.intersects(new Coordinates(0, 0), diamond, new Coordinates(2.3, 2.3)));
+        assertTrue(square.intersects(new Coordinates(0, 0), diamond, new Coordinates(2.3, 0)));
+    }
+
+    @Test
+    void exactTestFindsSampledCollisions() {
+        // every collision found by sampling the boundary must also be found by the exact test
+        java.util.Random random = new java.util.Random(5);
+        for (int i = 0; i < 5000; i++) {
+            Hitbox source = random.nextBoolean() ? new CircularHitbox(1 + random.nextDouble() * 3)
+                    : new RectangularHitbox(1 + random.nextDouble() * 4, 1 + random.nextDouble() * 4);
+            Hitbox target = random.nextBoolean() ? new CircularHitbox(1 + random.nextDouble() * 3)
+                    : new RectangularHitbox(1 + random.nextDouble() * 4, 1 + random.nextDouble() * 4);
+            source.rotate(random.nextInt(360));
+            target.rotate(random.nextInt(360));
+            Coordinates sourceCoords = new Coordinates(0, 0);
+            Coordinates targetCoords = new Coordinates(random.nextDouble() * 12 - 6, random.nextDouble() * 12 - 6);
+
+            if (source.isInside(sourceCoords, target.getBoundaryPoints(targetCoords)))
+                assertTrue(source.intersects(sourceCoords, target, targetCoords));
+            assertEquals(source.intersects(sourceCoords, target, targetCoords),
+                    target.intersects(targetCoords, source, sourceCoords));
+        }
+    }
+
+    @Test
+    void sampledCollisionsSwitch() {
+        CircularHitbox small = new CircularHitbox(0.5);
+        RectangularHitbox large = new RectangularHitbox(10, 10);
+        Coordinates center = new Coordinates(0, 0);
+
+        assertTrue(small.collidesWith(center, large, center));
+        Hitbox.setSampledCollisions(true);
+        try {
+            assertFalse(small.collidesWith(center, large, center));
+        } finally {
+            Hitbox.setSampledCollisions(false);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package model.game_physics.hitbox;
+
+import model.game_building.GameConstants;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.MathUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationTableTest {
+
+    @Test
+    void coversTheRotationSteps() {
+        RotationTable table = RotationTable.GAME;
+        for (int i = -200; i <= 200; i++) {
+            assertTrue(table.orientationOf(i * GameConstants.SPINNING_SPEED) >= 0);
+            assertTrue(table.orientationOf(i * GameConstants.DEFAULT_ROTATION_STEP) >= 0);
+        }
+        assertEquals(-1, table.orientationOf(33));
+        assertEquals(-1, table.orientationOf(4.5));
+        assertEquals(table.orientationOf(8), table.orientationOf(368));
+        assertEquals(table.orientationOf(-10), table.orientationOf(350));
+    }
+
+    @Test
+    void matchesTheTrigonometry() {
+        RotationTable table = RotationTable.GAME;
+        for (double degree = -720; degree <= 720; degree += 0.5) {
+            double radians = Math.toRadians(degree);
+            assertEquals(Math.cos(radians), table.cosOf(degree), 1e-12, "cos " + degree);
+            assertEquals(Math.sin(radians), table.sinOf(degree), 1e-12, "sin " + degree);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new RotationTable(7));
+    }
+
+    @Test
+    void spinningHitboxesUseTheTable() {
+        RectangularHitbox rectangle = new RectangularHitbox(10, 2);
+        Coordinates center = new Coordinates(0, 0);
+        for (int i = 0; i < 200; i++) {
+            rectangle.rotate(GameConstants.SPINNING_SPEED);
+            double degree = rectangle.getRotationDegree();
+            // the tip of the rectangle follows the rotation
+            Coordinates tip = MathUtils.applyRotation(degree, center, new Coordinates(4.5, 0));
+            assertTrue(rectangle.isInside(center, tip), "tip at " + degree);
+            Coordinates side = MathUtils.applyRotation(degree, center, new Coordinates(0, 2));
+            assertFalse(rectangle.isInside(center, side), "side at " + degree);
+        }
+    }
+
+    @Test
+    void theTrigonometryAlwaysBelongsToTheRotation() throws InterruptedException {
+        RectangularHitbox rectangle = new RectangularHitbox(10, 2);
+        Thread rotating = new Thread(() -> {
+            for (int i = 0; i < 200000; i++)
+                rectangle.rotate(GameConstants.DEFAULT_ROTATION_STEP);
+        });
+        rotating.start();
+        while (rotating.isAlive()) {
+            RotationTable.Rotation rotation = rectangle.rotation();
+            assertEquals(RotationTable.GAME.cosOf(rotation.degree), rotation.cos);
+            assertEquals(RotationTable.GAME.sinOf(rotation.degree), rotation.sin);
+        }
+        rotating.join();
+        assertEquals(RotationTable.GAME.orientationOf(rectangle.getRotationDegree()),
+                RotationTable.GAME.orientationOf(rectangle.rotation().degree));
+    }
+
+    @Test
+    void theOrientationsShareTheirRotation() {
+        RectangularHitbox rectangle = new RectangularHitbox(10, 2);
+        RotationTable.Rotation start = rectangle.rotation();
+        int steps = (int) Math.round(360 / GameConstants.SPINNING_SPEED);
+        for (int i = 0; i < steps; i++)
+            rectangle.rotate(GameConstants.SPINNING_SPEED);
+        // a full turn later the hitbox is back to the rotation it started with
+        assertSame(start, rectangle.rotation());
+        assertEquals(0, rectangle.rotation().degree);
+        assertSame(RotationTable.GAME.rotationOf(-GameConstants.SPINNING_SPEED),
+                RotationTable.GAME.rotationOf(360 - GameConstants.SPINNING_SPEED));
+
+        // an angle that is not one of the orientations still gets its own trigonometry
+        RotationTable.Rotation odd = RotationTable.GAME.rotationOf(33);
+        assertEquals(33, odd.degree);
+        assertEquals(Math.cos(Math.toRadians(33)), odd.cos);
+    }
+}
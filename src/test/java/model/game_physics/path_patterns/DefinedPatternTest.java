@@ -0,0 +1,137 @@
+package model.game_physics.path_patterns;
+
+import model.game_building.Configuration;
+import model.game_building.ConfigurationFixture;
+import model.game_building.GameConstants;
+import model.game_entities.enums.EntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import services.utils.Coordinates;
+import services.utils.IOHandler;
+import services.utils.Vector;
+import services.utils.Velocity;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefinedPatternTest {
+
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture();
+
+    private static Velocity zigZagVelocity() {
+        return new Velocity(new Vector(0, Configuration.getInstance().getZigZagPatternSpeed())
+                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE));
+    }
+
+    private static Velocity straightVelocity() {
+        return new Velocity(0, Configuration.getInstance().getStraightPatternSpeed());
+    }
+
+    /**
+     * the patterns the entity types followed before they shared definitions.
+     */
+    private static PathPattern objectPattern(EntityType type) {
+        switch (type) {
+            case ALPHA:
+                return new ZigzagPatten(zigZagVelocity(), GameConstants.FPS);
+            case BETA:
+                return new RatioPattern(Arrays.asList(new StraightPattern(straightVelocity()),
+                        new ZigzagPatten(zigZagVelocity(), GameConstants.FPS)), Arrays.asList(0.25, 0.75));
+            case GAMMA:
+                return new RatioPattern(Arrays.asList(new StraightPattern(straightVelocity()),
+                        new ZigzagPatten(zigZagVelocity(), GameConstants.FPS)), Arrays.asList(0.5, 0.5));
+            default:
+                return new StraightPattern(straightVelocity());
+        }
+    }
+
+    private static PathPattern definedPattern(EntityType type) {
+        return PathPatternFactory.getInstance().getMoleculePathPattern(type);
+    }
+
+    @Test
+    void followsTheSamePathAsThePatternObjects() {
+        for (EntityType type : EntityType.values()) {
+            PathPattern expected = objectPattern(type);
+            PathPattern pattern = definedPattern(type);
+            // the pattern objects end a phase a step late when the sum of the steps falls just short of the ratio.
+            // this start never lands on a ratio exactly until the straight phase comes back
+            expected.setCurrentCoords(new Coordinates(100, 10.3));
+            pattern.setCurrentCoords(new Coordinates(100, 10.3));
+            for (int tick = 1; tick <= 900; tick++) {
+                Coordinates expectedCoords = expected.nextPosition();
+                Coordinates coords = pattern.nextPosition();
+                assertEquals(expectedCoords.getX(), coords.getX(), 1e-6, type + " x after " + tick + " ticks");
+                assertEquals(expectedCoords.getY(), coords.getY(), 1e-6, type + " y after " + tick + " ticks");
+            }
+        }
+    }
+
+    @Test
+    void sharesTheDefinitionOfAType() {
+        DefinedPattern first = (DefinedPattern) definedPattern(EntityType.BETA);
+        DefinedPattern second = (DefinedPattern) PathPatternFactory.getInstance().getBlockerPathPattern(EntityType.BETA);
+        assertNotSame(first, second);
+        assertSame(first.getDefinition(), second.getDefinition());
+        assertNotSame(first.getDefinition(), ((DefinedPattern) definedPattern(EntityType.GAMMA)).getDefinition());
+    }
+
+    @Test
+    void reflectionLastsUntilTheSegmentEnds() {
+        DefinedPattern pattern = new DefinedPattern(PatternDefinition.zigzag(new Velocity(1, 1), 4));
+        pattern.setCurrentCoords(new Coordinates(0, 0));
+        pattern.nextPosition();
+        pattern.reflect(new Vector(new Coordinates(-1, 0)));
+        // a second reflection right after the first one is ignored
+        pattern.reflect(new Vector(new Coordinates(-1, 0)));
+        assertEquals(new Coordinates(0, 2), pattern.nextPosition());
+        pattern.nextPosition();
+        assertEquals(new Coordinates(-2, 4), pattern.nextPosition());
+        // the next segment goes left as defined
+        assertEquals(new Coordinates(-3, 5), pattern.nextPosition());
+        assertEquals(new Coordinates(-4, 6), pattern.nextPosition());
+    }
+
+    @Test
+    void positionAtMatchesStepping() {
+        for (EntityType type : EntityType.values()) {
+            PathPattern pattern = definedPattern(type);
+            PathPattern twin = definedPattern(type);
+            pattern.setCurrentCoords(new Coordinates(100, 10));
+            twin.setCurrentCoords(new Coordinates(100, 10));
+            for (int i = 0; i < 7; i++) {
+                pattern.nextPosition();
+                twin.nextPosition();
+            }
+            pattern.reflect(new Vector(new Coordinates(1, 0)));
+            twin.reflect(new Vector(new Coordinates(1, 0)));
+            for (int tick = 1; tick <= 2000; tick++) {
+                Coordinates stepped = twin.nextPosition();
+                Coordinates evaluated = pattern.positionAt(tick);
+                assertEquals(stepped.getX(), evaluated.getX(), 1e-6, type + " x after " + tick + " ticks");
+                assertEquals(stepped.getY(), evaluated.getY(), 1e-6, type + " y after " + tick + " ticks");
+            }
+        }
+    }
+
+    @Test
+    void saveAndLoad() throws IOException {
+        DefinedPattern pattern = (DefinedPattern) definedPattern(EntityType.GAMMA);
+        pattern.setCurrentCoords(new Coordinates(100, 10));
+        for (int i = 0; i < 500; i++) {
+            pattern.nextPosition();
+        }
+        pattern.reflect(new Vector(new Coordinates(1, 0)));
+
+        PathPattern loaded = IOHandler.readFromYamlString(IOHandler.getYAMLRepresentation(pattern), PathPattern.class);
+        assertTrue(loaded instanceof DefinedPattern);
+        assertSame(pattern.getDefinition(), ((DefinedPattern) loaded).getDefinition());
+        assertEquals(pattern.getCurrentCoords(), loaded.getCurrentCoords());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(pattern.nextPosition(), loaded.nextPosition());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package model.game_physics.path_patterns;
 
+import model.game_building.Configuration;
+import model.game_building.ConfigurationFixture;
 import org.junit.jupiter.api.Test;
 import services.utils.Coordinates;
 import services.utils.Velocity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PathPatternTest {
@@ -50,4 +55,77 @@ class PathPatternTest {
 
         // additional tests are found in StraightPatternTest and ZigzagPatternTest
     }
-}
\ No newline at end of file
+
+    /**
+     * steps the twin pattern tick by tick and checks that the pattern finds the same positions in closed form.
+     */
+    private static void assertMatchesStepping(PathPattern pattern, PathPattern twin, int ticks) {
+        for (int tick = 1; tick <= ticks; tick++) {
+            Coordinates stepped = twin.nextPosition();
+            Coordinates evaluated = pattern.positionAt(tick);
+            assertEquals(stepped.getX(), evaluated.getX(), 1e-6, "x after " + tick + " ticks");
+            assertEquals(stepped.getY(), evaluated.getY(), 1e-6, "y after " + tick + " ticks");
+        }
+    }
+
+    @Test
+    void positionAtStraight() {
+        assertMatchesStepping(new StraightPattern(new Coordinates(1, 1), new Velocity(2, 3)),
+                new StraightPattern(new Coordinates(1, 1), new Velocity(2, 3)), 50);
+        assertEquals(new Coordinates(1e6, 1), new StraightPattern(new Coordinates(0, 1), new Velocity(1, 0))
+                .positionAt(1_000_000));
+    }
+
+    @Test
+    void positionAtZigzag() {
+        ZigzagPatten pattern = new ZigzagPatten(new Velocity(1, 1), new Velocity(-2, 2), 2, 3);
+        pattern.setCurrentCoords(new Coordinates(0, 0));
+        ZigzagPatten twin = new ZigzagPatten(new Velocity(1, 1), new Velocity(-2, 2), 2, 3);
+        twin.setCurrentCoords(new Coordinates(0, 0));
+        assertMatchesStepping(pattern, twin, 40);
+
+        // evaluating from the middle of a pattern
+        twin = new ZigzagPatten(new Velocity(1, 1), new Velocity(-2, 2), 2, 3);
+        twin.setCurrentCoords(new Coordinates(0, 0));
+        for (int i = 0; i < 4; i++) {
+            pattern.nextPosition();
+            twin.nextPosition();
+        }
+        assertMatchesStepping(pattern, twin, 40);
+    }
+
+    @Test
+    void positionAtSequential() {
+        // down to (0, 10), then right to (10, 10), then diagonally forever
+        SequentialCompositePattern pattern = sequential();
+        assertMatchesStepping(pattern, sequential(), 40);
+        assertEquals(new Coordinates(25, 25), sequential().positionAt(30));
+    }
+
+    private static SequentialCompositePattern sequential() {
+        return new SequentialCompositePattern(new ArrayList<>(Arrays.asList(
+                new StraightPattern(new Coordinates(0, 0), new Velocity(0, 1)),
+                new StraightPattern(new Coordinates(0, 10), new Velocity(2, 0)),
+                new StraightPattern(new Coordinates(10, 10), new Velocity(1, 1)))));
+    }
+
+    @Test
+    void positionAtRatio() {
+        new ConfigurationFixture().install();
+        try {
+            int height = Configuration.getInstance().getGamePanelDimensions().height;
+            assertMatchesStepping(ratio(), ratio(), 3 * height);
+        } finally {
+            ConfigurationFixture.clear();
+        }
+    }
+
+    private static RatioPattern ratio() {
+        ZigzagPatten zigzag = new ZigzagPatten(new Velocity(3, 2.5), 4);
+        RatioPattern pattern = new RatioPattern(Arrays.asList(
+                new StraightPattern(new Velocity(0, 3)), zigzag, new StraightPattern(new Velocity(1.5, 1))),
+                Arrays.asList(0.25, 0.5, 0.25));
+        pattern.setCurrentCoords(new Coordinates(100, 0));
+        return pattern;
+    }
+}
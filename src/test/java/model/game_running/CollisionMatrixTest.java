@@ -0,0 +1,78 @@
+package model.game_running;
+
+import model.game_entities.Atom;
+import model.game_entities.Blocker;
+import model.game_entities.Molecule;
+import model.game_entities.Powerup;
+import model.game_entities.Shooter;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import static model.game_entities.enums.SuperType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionMatrixTest {
+
+    @Test
+    void collisionHandlerMatrix() {
+        CollisionMatrix matrix = CollisionMatrix.of(new CollisionHandler(null, null));
+
+        // source -> target pairs that end in a handleCollision(target, source) implemented by the handler
+        assertTrue(matrix.interacts(MOLECULE, ATOM));
+        assertTrue(matrix.interacts(BLOCKER, ATOM));
+        assertTrue(matrix.interacts(BLOCKER, POWERUP));
+        assertTrue(matrix.interacts(BLOCKER, MOLECULE));
+        assertTrue(matrix.interacts(BLOCKER, SHOOTER));
+        assertTrue(matrix.interacts(POWERUP, SHOOTER));
+
+        int interacting = 0;
+        for (SuperType source : SuperType.values())
+            for (SuperType target : SuperType.values())
+                if (matrix.interacts(source, target))
+                    interacting++;
+        assertEquals(6, interacting);
+
+        assertFalse(matrix.interacts(ATOM, MOLECULE));
+        assertFalse(matrix.interacts(ATOM, ATOM));
+        assertFalse(matrix.interacts(POWERUP, MOLECULE));
+        assertTrue(matrix.interactsEitherWay(ATOM, MOLECULE));
+        assertFalse(matrix.interactsEitherWay(MOLECULE, POWERUP));
+    }
+
+    @Test
+    void overriddenDefaultsInteract() {
+        CollisionMatrix matrix = CollisionMatrix.of(new CollisionVisitor() {
+            @Override
+            public void handleCollision(Atom atom1, Atom atom2) {
+            }
+
+            @Override
+            public void handleCollision(Atom atom, Molecule molecule) {
+            }
+
+            @Override
+            public void handleCollision(Atom atom, Blocker blocker) {
+            }
+
+            @Override
+            public void handleCollision(Powerup powerup, Blocker blocker) {
+            }
+
+            @Override
+            public void handleCollision(Molecule molecule, Blocker blocker) {
+            }
+
+            @Override
+            public void handleCollision(Shooter shooter, Blocker blocker) {
+            }
+
+            @Override
+            public void handleCollision(Shooter shooter, Powerup powerup) {
+            }
+        });
+
+        assertTrue(matrix.interacts(ATOM, ATOM));
+        assertFalse(matrix.interacts(SHIELD, ATOM));
+        assertTrue(matrix.interacts(null, ATOM)); // unknown types are always checked
+    }
+}
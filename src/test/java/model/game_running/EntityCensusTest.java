@@ -0,0 +1,56 @@
+package model.game_running;
+
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCensusTest {
+
+    @Test
+    void countsByTypeAndSuperType() {
+        EntityCensus census = new EntityCensus();
+        census.set(SuperType.MOLECULE, EntityType.ALPHA, 3);
+        census.set(SuperType.MOLECULE, EntityType.SIGMA, 2);
+        census.set(SuperType.BLOCKER, EntityType.BETA, 4);
+        census.change(SuperType.BLOCKER, EntityType.BETA, -1);
+        // the changes are not visible before the commit
+        assertEquals(0, census.total());
+
+        census.commit();
+        assertEquals(3, census.count(SuperType.MOLECULE, EntityType.ALPHA));
+        assertEquals(5, census.count(SuperType.MOLECULE));
+        assertEquals(3, census.count(SuperType.BLOCKER));
+        assertEquals(0, census.count(SuperType.POWERUP));
+        assertEquals(8, census.total());
+
+        // a count never goes below zero
+        census.change(SuperType.MOLECULE, EntityType.SIGMA, -5);
+        census.commit();
+        assertEquals(0, census.count(SuperType.MOLECULE, EntityType.SIGMA));
+        assertEquals(6, census.total());
+        assertThrows(IllegalArgumentException.class, () -> census.set(SuperType.ATOM, EntityType.ALPHA, -1));
+
+        census.clear();
+        census.commit();
+        assertEquals(0, census.total());
+        assertEquals(0, census.count(SuperType.MOLECULE));
+    }
+
+    @Test
+    void notifiesTheChangedCounts() {
+        EntityCensus census = new EntityCensus();
+        List<String> changes = new ArrayList<>();
+        census.addListener((superType, entityType, count) -> changes.add(superType + " " + entityType + " " + count));
+        census.set(SuperType.POWERUP, EntityType.GAMMA, 2);
+        census.change(SuperType.POWERUP, EntityType.GAMMA, -1);
+        census.change(SuperType.POWERUP, EntityType.BETA, -1); // no change, already zero
+        census.set(SuperType.POWERUP, EntityType.GAMMA, 1);  // no change
+        assertEquals(2, changes.size());
+        assertEquals("POWERUP GAMMA 1", changes.get(1));
+    }
+}
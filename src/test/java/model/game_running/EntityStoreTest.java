@@ -0,0 +1,134 @@
+package model.game_running;
+
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.path_patterns.StraightPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.Velocity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityStoreTest {
+
+    EntityStore store;
+
+    @BeforeEach
+    void initializeVariables() {
+        store = new EntityStore();
+    }
+
+    private static AutonomousEntity atom() {
+        Coordinates coords = new Coordinates(0, 0);
+        return new Atom(coords, new CircularHitbox(1), new StraightPattern(coords, new Velocity(1, 1)),
+                EntityType.ALPHA, 1.0, 1, 1);
+    }
+
+    @Test
+    void changesAreVisibleOnlyAfterPublish() {
+        AutonomousEntity first = atom(), second = atom();
+        store.add(first);
+        store.add(second);
+        assertTrue(store.snapshot().isEmpty());
+
+        assertTrue(store.publish());
+        List<AutonomousEntity> snapshot = store.snapshot();
+        assertEquals(Arrays.asList(first, second), snapshot);
+
+        store.remove(first);
+        assertTrue(store.isPendingRemoval(first));
+        assertFalse(store.isPendingRemoval(second));
+        // the published snapshot is immutable, readers of this tick still see the removed entity
+        assertEquals(2, snapshot.size());
+
+        assertTrue(store.publish());
+        assertEquals(Arrays.asList(second), store.snapshot());
+        assertFalse(store.isPendingRemoval(first));
+        assertEquals(2, snapshot.size());
+        assertFalse(store.publish());
+    }
+
+    @Test
+    void removalsAreAppliedOnce() {
+        AutonomousEntity first = atom(), second = atom();
+        store.add(first);
+        store.add(second);
+        // removed in the same tick it was added, it is never published
+        store.remove(second);
+        store.remove(second);
+        store.publish();
+        assertEquals(Arrays.asList(first), store.snapshot());
+
+        store.remove(first);
+        store.remove(first);
+        store.publish();
+        assertTrue(store.snapshot().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.snapshot().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> store.snapshot().add(first));
+    }
+
+    @Test
+    void publishReportsTheAppliedChanges() {
+        AutonomousEntity first = atom(), second = atom(), third = atom();
+        store.add(first);
+        store.add(second);
+        store.publish();
+        assertEquals(Arrays.asList(first, second), store.getAdded());
+        assertTrue(store.getRemoved().isEmpty());
+
+        // an entity added and removed in the same tick is neither added nor removed
+        store.add(third);
+        store.remove(third);
+        store.remove(first);
+        store.remove(first);
+        assertTrue(store.publish());
+        assertTrue(store.getAdded().isEmpty());
+        assertEquals(Arrays.asList(first), store.getRemoved());
+
+        store.add(third);
+        store.remove(third);
+        assertFalse(store.publish());
+        assertEquals(Arrays.asList(second), store.snapshot());
+    }
+
+    @Test
+    void resetDropsStagedChanges() {
+        AutonomousEntity first = atom(), second = atom();
+        store.add(first);
+        store.remove(second);
+        store.reset(Arrays.asList(second));
+        assertEquals(Arrays.asList(second), store.snapshot());
+        assertFalse(store.isPendingRemoval(second));
+        assertFalse(store.publish());
+    }
+
+    @Test
+    void censusFollowsThePublishedEntities() {
+        AutonomousEntity first = atom(), second = atom(), third = atom();
+        store.add(first);
+        store.add(second);
+        store.add(third);
+        store.remove(third);
+        assertEquals(0, store.getCensus().count(SuperType.ATOM));
+        store.publish();
+        assertEquals(2, store.getCensus().count(SuperType.ATOM, EntityType.ALPHA));
+
+        store.remove(first);
+        store.remove(first);
+        store.publish();
+        EntityCensus.Counts counts = store.getCensus().counts();
+        assertEquals(1, counts.count(SuperType.ATOM));
+        assertEquals(1, counts.total());
+
+        store.reset(Arrays.asList(first, second, third));
+        assertEquals(3, store.getCensus().total());
+        assertEquals(1, counts.total()); // the counts of a commit do not change
+    }
+}
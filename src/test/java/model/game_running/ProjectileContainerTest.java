@@ -0,0 +1,82 @@
+package model.game_running;
+
+import model.game_building.ConfigurationFixture;
+import model.game_entities.Atom;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.ShieldType;
+import model.game_entities.shields.ShieldTuple;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import services.utils.Coordinates;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileContainerTest {
+
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture();
+
+    @Test
+    void drawsEveryRemainingTypeEquallyOften() {
+        // alpha, beta, sigma and gamma atoms. the counts differ, but like drawing types until one has atoms left,
+        // every type with remaining atoms is equally likely
+        ProjectileContainer container = new ProjectileContainer(null, 100000, 0, 5000, 200000);
+        int draws = 3000;
+        int[] drawn = new int[4];
+        for (int i = 0; i < draws; i++) {
+            Atom atom = container.getRandomAtom(new Coordinates(0, 0));
+            drawn[atom.getEntityType().getValue()]++;
+        }
+        assertEquals(0, drawn[EntityType.BETA.getValue()]);
+        for (EntityType type : new EntityType[]{EntityType.ALPHA, EntityType.GAMMA, EntityType.SIGMA}) {
+            // the standard deviation of each count is about 26
+            assertEquals(draws / 3.0, drawn[type.getValue()], 150, type + " drawn " + drawn[type.getValue()] + " times");
+        }
+        assertEquals(100000 + 5000 + 200000 - draws, container.getTotalAtomCount());
+    }
+
+    @Test
+    void stopsDrawingEmptyTypes() {
+        ProjectileContainer container = new ProjectileContainer(null, 2, 0, 0, 1); // one gamma atom
+        int[] drawn = new int[4];
+        for (int i = 0; i < 3; i++) {
+            drawn[container.getRandomAtom(new Coordinates(0, 0)).getEntityType().getValue()]++;
+        }
+        assertArrayEquals(new int[]{2, 0, 1, 0}, drawn);
+        assertNull(container.getRandomAtom(new Coordinates(0, 0)));
+
+        // a type filled again by the blender can be drawn again
+        container.increaseAtoms(EntityType.GAMMA.getValue(), 1, null);
+        assertEquals(EntityType.GAMMA, container.getRandomAtom(new Coordinates(0, 0)).getEntityType());
+    }
+
+    @Test
+    void endsWhenTheTotalIsOutOfSync() {
+        ProjectileContainer container = new ProjectileContainer(null, 0, 0, 0, 0);
+        container.totalAtomCount = 5;
+        assertNull(container.getRandomAtom(new Coordinates(0, 0)));
+    }
+
+    @Test
+    void drawsEveryShieldOnce() {
+        ProjectileContainer container = new ProjectileContainer(null, 0, 0, 0, 0);
+        Map<ShieldTuple, Boolean> added = new IdentityHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            ShieldTuple shields = new ShieldTuple();
+            shields.addShield(ShieldType.ETA);
+            added.put(shields, true);
+            container.increaseAtoms(EntityType.ALPHA.getValue(), 1, shields);
+        }
+        // with more shields than atoms, a shield is always drawn
+        container.decreaseAtoms(EntityType.ALPHA.getValue(), 50);
+        for (int i = 0; i < 50; i++) {
+            ShieldTuple shields = container.getShields(EntityType.ALPHA);
+            assertNotNull(added.remove(shields), "shield drawn twice or never added");
+        }
+        assertTrue(added.isEmpty());
+        assertFalse(container.getShields(EntityType.ALPHA).isNotEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package model.game_running;
+
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.path_patterns.StraightPattern;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.Velocity;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderSnapshotTest {
+
+    private static Atom atom(double x, double y) {
+        Coordinates coords = new Coordinates(x, y);
+        return new Atom(coords, new CircularHitbox(1), new StraightPattern(coords, new Velocity(1, 1)),
+                EntityType.BETA, 1.0, 1, 1);
+    }
+
+    @Test
+    void captureCopiesTheDrawingState() {
+        Atom first = atom(10, 20), second = atom(30, 40);
+        second.getHitbox().rotate(45);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.capture(Arrays.<AutonomousEntity>asList(first, second), null);
+
+        assertEquals(2, snapshot.size());
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(first.getId(), snapshot.getId(0));
+        assertEquals(second.getId(), snapshot.getId(1));
+        assertEquals(SuperType.ATOM, snapshot.getSuperType(1));
+        assertEquals(30, snapshot.getX(1));
+        assertEquals(40, snapshot.getY(1));
+        assertEquals(second.getHitbox().getRotationDegree(), snapshot.getRotation(1));
+        assertNull(snapshot.getProjectileSuperType());
+
+        // moving the entity after the capture does not change the snapshot
+        first.setCoordinates(new Coordinates(50, 60));
+        assertEquals(10, snapshot.getX(0));
+        assertEquals(20, snapshot.getY(0));
+    }
+
+    @Test
+    void theBufferNeverRefillsTheDrawnSnapshot() {
+        RenderSnapshotBuffer buffer = new RenderSnapshotBuffer();
+        assertEquals(0, buffer.latest().size());
+
+        Atom first = atom(10, 20), second = atom(30, 40);
+        buffer.publish(Arrays.<AutonomousEntity>asList(first, second), null);
+        RenderSnapshot drawn = buffer.latest();
+        assertEquals(2, drawn.size());
+        assertSame(drawn, buffer.latest()); // nothing newer was published
+
+        // the game loop keeps publishing while the frame is drawn
+        for (int tick = 0; tick < 5; tick++) {
+            first.setCoordinates(new Coordinates(100 + tick, 0));
+            buffer.publish(Arrays.<AutonomousEntity>asList(first), null);
+            assertEquals(10, drawn.getX(0));
+            assertEquals(2, drawn.size());
+        }
+
+        RenderSnapshot next = buffer.latest();
+        assertNotSame(drawn, next);
+        assertEquals(1, next.size());
+        assertEquals(104, next.getX(0));
+    }
+}
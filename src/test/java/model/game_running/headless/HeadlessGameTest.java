@@ -0,0 +1,159 @@
+package model.game_running.headless;
+
+import model.game_building.ConfigBundle;
+import model.game_building.ConfigSnapshot;
+import model.game_building.Configuration;
+import model.game_building.ConfigurationFixture;
+import model.game_building.GameConstants;
+import model.game_entities.Molecule;
+import model.game_entities.enums.EntityType;
+import model.game_entities.factories.MoleculeFactory;
+import model.game_running.RunningMode;
+import model.game_running.runnables.TickScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import services.metrics.GameMetrics;
+import services.utils.Coordinates;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class HeadlessGameTest {
+
+    // the counter of a thread is updated a buffer at a time, a few hundred bytes are noise and not a leak
+    private static final long ALLOCATION_SLACK = 4096;
+
+    // no blockers, since a blocker reaching the shooter ends the game early
+    private static ConfigBundle bundle() {
+        return new ConfigBundle(
+                new ArrayList<>(Arrays.asList(5, 5, 5, 5)),
+                new ArrayList<>(Arrays.asList(1, 1, 1, 1)),
+                new ArrayList<>(Arrays.asList(0, 0, 0, 0)),
+                new ArrayList<>(Arrays.asList(3, 3, 3, 3)),
+                new ArrayList<>(Arrays.asList(0, 0, 0, 0)),
+                50, false, false, false, false, 2, GameConstants.PEPEGA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configuration.getInstance().reset(null); // other tests expect an empty configuration
+    }
+
+    @Test
+    void gameEndsAfterAllEntitiesAreDropped() {
+        HeadlessGame game = new HeadlessGame(bundle(), 10);
+        long ticks = game.run();
+
+        RecordingGameListener listener = game.getListener();
+        assertTrue(game.getRunningMode().isGameOver());
+        assertEquals(1, listener.getEventCount("onGameStart"));
+        assertEquals(2, listener.getEventCount("onGameOver"));
+        // 16 entities are dropped one every HARD_MODE_GAME_DROP_RATE, each in its own tick
+        assertEquals(16, listener.getEventCount("onEntitiesAdd"));
+        assertTrue(listener.getMaxEntitiesOnScreen() > 0);
+        assertEquals(game.getRunningMode().getAutonomousEntities().size(), listener.getEntitiesOnScreen());
+        assertTrue(ticks >= 15L * GameConstants.HARD_MODE_GAME_DROP_RATE / GameConstants.GAME_THREAD_DELAY);
+        assertTrue(ticks < 10L * 60000 / GameConstants.GAME_THREAD_DELAY);
+    }
+
+    @Test
+    void burstsDropSeveralEntitiesAtOnce() {
+        HeadlessGame game = new HeadlessGame(bundle(), 10, 25);
+        game.getRunningMode().setBurstSize(4);
+        game.run();
+
+        assertTrue(game.getRunningMode().isGameOver());
+        // the 16 entities are dropped four at a time
+        assertEquals(4, game.getListener().getEventCount("onEntitiesAdd"));
+        assertEquals(0, game.getRunningMode().getRemainingEntities().total());
+    }
+
+    @Test
+    void gameEndsWhenTheTimerRunsOut() {
+        HeadlessGame game = new HeadlessGame(bundle(), 0.05);
+        long ticks = game.run();
+
+        assertTrue(game.getRunningMode().isGameOver());
+        assertEquals(3000 / GameConstants.GAME_THREAD_DELAY + 1, ticks);
+        assertEquals("00 : 00", game.getListener().getCurrentTime());
+
+        // every tick and every system in it is timed
+        assertEquals(ticks, GameMetrics.getInstance().recorder(GameMetrics.TICK).getCount());
+        assertEquals(ticks, GameMetrics.getInstance().recorder("CollisionRunnable").getCount());
+        assertTrue(GameMetrics.getInstance().report().containsKey("MovementRunnable"));
+    }
+
+    @Test
+    void theGameEndsOnceWhateverThreadEndsIt() throws InterruptedException {
+        HeadlessGame game = new HeadlessGame(bundle(), 10);
+        RunningMode runningMode = game.getRunningMode();
+        // the UI thread ends the game when the last atom is shot, the game loop when the last entity leaves
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> enders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread ender = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                runningMode.endGame();
+            });
+            ender.start();
+            enders.add(ender);
+        }
+        start.countDown();
+        for (Thread ender : enders)
+            ender.join();
+
+        assertTrue(runningMode.isGameOver());
+        // once for the game state listener and once for the running state listener
+        assertEquals(2, game.getListener().getEventCount("onGameOver"));
+    }
+
+    @Test
+    void steadyTicksDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        HeadlessGame game = new HeadlessGame(
+                new ConfigurationFixture().linearAlpha().spinningAlpha().nothingToDrop().bundle(), 10);
+        RunningMode runningMode = game.getRunningMode();
+        ConfigSnapshot config = Configuration.snapshot();
+        // spinning linear molecules turn their hitboxes every tick, next to circular ones
+        for (int i = 0; i < 40; i++) {
+            Molecule molecule = MoleculeFactory.getInstance().getMolecule(i % 2 == 0 ? EntityType.ALPHA : EntityType.BETA);
+            molecule.setCoordinates(new Coordinates(
+                    (i % 10 + 0.5) * config.getGamePanelWidth() / 10, (i / 10 + 1) * config.getUnitL()));
+            runningMode.addEntity(molecule);
+        }
+        TickScheduler scheduler = runningMode.getTickScheduler();
+
+        // steady state: the molecules are on screen, every buffer has grown and the hot code is compiled
+        for (int i = 0; i < 300; i++)
+            scheduler.tick();
+        int entities = runningMode.getAutonomousEntities().size();
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 200; i++)
+            scheduler.tick();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertFalse(runningMode.isGameOver());
+        assertEquals(40, entities);
+        assertEquals(entities, runningMode.getAutonomousEntities().size()); // nothing was added or removed
+        assertTrue(allocated < ALLOCATION_SLACK, allocated + " bytes allocated in 200 ticks");
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+}
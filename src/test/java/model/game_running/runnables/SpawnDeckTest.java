@@ -0,0 +1,74 @@
+package model.game_running.runnables;
+
+import model.game_building.ConfigSnapshot;
+import model.game_building.ConfigurationFixture;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_running.EntityCensus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpawnDeckTest {
+
+    private static final ConfigSnapshot CONFIG = ConfigSnapshot.of(new ConfigurationFixture().bundle());
+
+    private static EntityCensus.Counts counts(int molecules, int blockers, int powerups) {
+        EntityCensus census = new EntityCensus();
+        census.set(SuperType.MOLECULE, EntityType.ALPHA, molecules);
+        census.set(SuperType.BLOCKER, EntityType.GAMMA, blockers);
+        census.set(SuperType.POWERUP, EntityType.SIGMA, powerups);
+        census.set(SuperType.POWERUP, EntityType.BETA, powerups);
+        census.commit();
+        return census.counts();
+    }
+
+    @Test
+    void dropsEveryEntityOnceInsideTheGameSpace() {
+        SpawnDeck deck = SpawnDeck.build(counts(20, 3, 5), CONFIG, 7);
+        assertEquals(33, deck.size());
+        int[] kinds = new int[SuperType.values().length];
+        while (deck.hasNext()) {
+            int drop = deck.next();
+            kinds[deck.getKind(drop).ordinal()]++;
+            if (deck.getKind(drop) == SuperType.BLOCKER)
+                assertEquals(EntityType.GAMMA, deck.getType(drop));
+            double x = deck.getXCoordinate(drop);
+            assertTrue(x >= 0 && x <= CONFIG.getGamePanelWidth(), "x " + x);
+        }
+        assertEquals(20, kinds[SuperType.MOLECULE.ordinal()]);
+        assertEquals(3, kinds[SuperType.BLOCKER.ordinal()]);
+        assertEquals(10, kinds[SuperType.POWERUP.ordinal()]);
+        assertEquals(0, deck.remaining());
+        assertThrows(IllegalStateException.class, deck::next);
+    }
+
+    @Test
+    void theSameSeedDropsTheSameSequence() {
+        SpawnDeck first = SpawnDeck.build(counts(10, 10, 10), CONFIG, 42);
+        SpawnDeck second = SpawnDeck.build(counts(10, 10, 10), CONFIG, 42);
+        SpawnDeck other = SpawnDeck.build(counts(10, 10, 10), CONFIG, 43);
+        boolean differs = false;
+        for (int drop = 0; drop < first.size(); drop++) {
+            assertEquals(first.getKind(drop), second.getKind(drop));
+            assertEquals(first.getType(drop), second.getType(drop));
+            assertEquals(first.getXCoordinate(drop), second.getXCoordinate(drop));
+            differs |= first.getXCoordinate(drop) != other.getXCoordinate(drop);
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void everyKindLeftIsEquallyLikely() {
+        // like choosing at every drop, the first drop is any kind with entities left, however many it has
+        int[] firstKinds = new int[SuperType.values().length];
+        int decks = 3000;
+        for (int seed = 0; seed < decks; seed++) {
+            SpawnDeck deck = SpawnDeck.build(counts(100, 1, 0), CONFIG, seed);
+            firstKinds[deck.getKind(deck.next()).ordinal()]++;
+        }
+        assertEquals(0, firstKinds[SuperType.POWERUP.ordinal()]);
+        assertEquals(decks / 2.0, firstKinds[SuperType.MOLECULE.ordinal()], 150);
+        assertEquals(decks / 2.0, firstKinds[SuperType.BLOCKER.ordinal()], 150);
+    }
+}
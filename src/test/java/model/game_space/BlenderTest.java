@@ -1,13 +1,23 @@
 package model.game_space;
 
+import model.game_building.ConfigurationFixture;
 import model.game_running.ProjectileContainer;
+import model.game_running.headless.HeadlessGame;
+import model.game_running.headless.RecordingGameListener;
+import model.game_running.listeners.BlenderListener;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import services.exceptions.ContainerNotInitializedException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class BlenderTest {
 
+    private static final String PROJECTILE_COUNT_CHANGE = "onProjectileCountChange";
+
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture();
+
     @Test
     void blend() {
 
@@ -63,4 +73,46 @@ class BlenderTest {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void countsConversions() throws Exception {
+        // a headless game wires the container to a running mode and a player that record the notifications
+        HeadlessGame game = new HeadlessGame(CONFIGURATION.bundle(), 10);
+        RecordingGameListener listener = game.getListener();
+        ProjectileContainer container = new ProjectileContainer(game.getRunningMode(), 1001, 0, 3, 0); // three SIGMA atoms
+        Blender blender = new Blender(container);
+        int notifications = listener.getEventCount(PROJECTILE_COUNT_CHANGE);
+
+        assertEquals(500, blender.blendAtoms(0, 1, 500));        // Blending 2 ALPHA into 1 BETA 500 times.
+        assertArrayEquals(new int[]{1, 500, 0, 3}, container.getAtomMap());
+        assertEquals(++notifications, listener.getEventCount(PROJECTILE_COUNT_CHANGE)); // once for the whole blend
+
+        assertEquals(250, blender.blendAtoms(1, 2, 1000));       // Could only blend 250 times.
+        assertArrayEquals(new int[]{1, 0, 250, 3}, container.getAtomMap());
+        assertEquals(++notifications, listener.getEventCount(PROJECTILE_COUNT_CHANGE));
+
+        assertEquals(0, blender.blendAtoms(0, 3, 1));            // Not enough atoms to blend.
+        assertEquals(0, blender.blendAtoms(2, 3, 0));
+        assertEquals(0, blender.blendAtoms(2, 3, -4));
+        assertArrayEquals(new int[]{1, 0, 250, 3}, container.getAtomMap());
+        assertEquals(notifications, listener.getEventCount(PROJECTILE_COUNT_CHANGE)); // nothing changed
+
+        blender.setBlenderListener(new BlenderListener() {
+            @Override
+            public void onBlend() {
+            }
+
+            @Override
+            public void onFailBlend() {
+            }
+
+            @Override
+            public void onShow() {
+            }
+        });
+        assertEquals(3, blender.convert(3, 0, 10));              // Breaking 1 SIGMA into 4 ALPHA three times.
+        assertArrayEquals(new int[]{13, 0, 250, 0}, container.getAtomMap());
+        assertEquals(263, container.getTotalAtomCount());
+        assertEquals(++notifications, listener.getEventCount(PROJECTILE_COUNT_CHANGE)); // once for the whole break
+    }
+}
@@ -0,0 +1,47 @@
+package services.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    private static final String DIRECTORY = "target/metrics-test";
+
+    private static File[] reports() {
+        File[] files = new File(System.getProperty("user.dir"), DIRECTORY).listFiles();
+        return files == null ? new File[0] : files;
+    }
+
+    @AfterEach
+    void tearDown() {
+        GameMetrics.getInstance().setDumpDirectory(null);
+        for (File report : reports())
+            report.delete();
+    }
+
+    @Test
+    void nothingIsWrittenUnlessADirectoryIsSet() {
+        GameMetrics metrics = GameMetrics.getInstance();
+        metrics.recorder(GameMetrics.TICK).record(1000);
+        metrics.dump();
+        assertEquals(0, reports().length);
+    }
+
+    @Test
+    void everyGameGetsItsOwnReport() throws InterruptedException {
+        GameMetrics metrics = GameMetrics.getInstance();
+        metrics.setDumpDirectory(DIRECTORY);
+        metrics.reset();
+        metrics.recorder(GameMetrics.TICK).record(1000);
+        metrics.dump();
+        Thread.sleep(2); // the next game starts at least a millisecond later
+        metrics.reset();
+        metrics.recorder(GameMetrics.TICK).record(2000);
+        metrics.dump();
+        assertEquals(2, reports().length);
+    }
+}
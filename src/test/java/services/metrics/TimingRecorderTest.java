@@ -0,0 +1,67 @@
+package services.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingRecorderTest {
+
+    TimingRecorder recorder;
+
+    @BeforeEach
+    void initializeVariables() {
+        recorder = new TimingRecorder("test");
+    }
+
+    @Test
+    void bucketsCoverEveryDuration() {
+        long previousUpperBound = -1;
+        for (int bucket = 0; TimingRecorder.upperBoundOf(bucket) > previousUpperBound; bucket++) {
+            long upperBound = TimingRecorder.upperBoundOf(bucket);
+            assertEquals(bucket, TimingRecorder.bucketOf(previousUpperBound + 1));
+            assertEquals(bucket, TimingRecorder.bucketOf(upperBound));
+            // a bucket is at most 1/16 of the durations it holds wide
+            assertTrue(upperBound - previousUpperBound - 1 <= (previousUpperBound + 1) / TimingRecorder.SUB_BUCKETS);
+            previousUpperBound = upperBound;
+        }
+        assertEquals(Long.MAX_VALUE, previousUpperBound);
+    }
+
+    @Test
+    void percentilesAreWithinTheBucketPrecision() {
+        Random random = new Random(42);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + random.nextInt(5000000);
+            recorder.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, recorder.getCount());
+        assertEquals(values[values.length - 1], recorder.getMax());
+        for (double percentile : new double[]{50, 90, 99}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = recorder.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact);
+            assertTrue(reported <= exact + exact / TimingRecorder.SUB_BUCKETS);
+        }
+        assertEquals(recorder.getMax(), recorder.getValueAtPercentile(100));
+    }
+
+    @Test
+    void resetClearsTheRecordedDurations() {
+        recorder.record(-5);
+        recorder.record(100);
+        assertEquals(0, recorder.getValueAtPercentile(50));
+        assertEquals(50, recorder.getMean());
+
+        recorder.reset();
+        assertEquals(0, recorder.getCount());
+        assertEquals(0, recorder.getMax());
+        assertEquals(0, recorder.getValueAtPercentile(99));
+    }
+}
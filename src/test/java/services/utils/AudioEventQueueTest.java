@@ -0,0 +1,162 @@
+package services.utils;
+
+import model.game_running.CollisionHandler;
+import model.game_running.RunningMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioEventQueueTest {
+
+    /**
+     * records the events it is called for.
+     */
+    private static class Recorder implements CollisionHandler.OnCollisionListener, RunningMode.OnGameStateListener {
+        final List<AudioEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        public void onShooterBlockerCollision() {
+            events.add(AudioEvent.SHOOTER_BLOCKER_COLLISION);
+        }
+
+        public void onAtomMoleculeCollision() {
+            events.add(AudioEvent.ATOM_MOLECULE_COLLISION);
+        }
+
+        public void onShooterPowerupCollision() {
+            events.add(AudioEvent.SHOOTER_POWERUP_COLLISION);
+        }
+
+        public void onPowerupBlockerCollision() {
+            events.add(AudioEvent.POWERUP_BLOCKER_COLLISION);
+        }
+
+        public void onAtomBlockerCollision() {
+            events.add(AudioEvent.ATOM_BLOCKER_COLLISION);
+        }
+
+        public void onGameStart() {
+            events.add(AudioEvent.GAME_START);
+        }
+
+        public void onGameOver() {
+            events.add(AudioEvent.GAME_OVER);
+        }
+
+        public void onGamePaused() {
+            events.add(AudioEvent.GAME_PAUSED);
+        }
+
+        public void onGameResume() {
+            events.add(AudioEvent.GAME_RESUME);
+        }
+
+        public void onShoot() {
+            events.add(AudioEvent.SHOOT);
+        }
+    }
+
+    @Test
+    void collapsesBurstsOfAnEffect() {
+        Recorder recorder = new Recorder();
+        VirtualClock clock = new VirtualClock();
+        AudioEventQueue queue = new AudioEventQueue(recorder, recorder, 16, 100, clock);
+
+        for (int i = 0; i < 20; i++)
+            queue.onAtomMoleculeCollision();
+        queue.onAtomBlockerCollision();
+        queue.onGamePaused();
+        queue.onGamePaused(); // state changes are never collapsed
+        clock.advance(100);
+        queue.onAtomMoleculeCollision();
+
+        assertEquals(5, queue.drain());
+        assertEquals(Arrays.asList(AudioEvent.ATOM_MOLECULE_COLLISION, AudioEvent.ATOM_BLOCKER_COLLISION,
+                AudioEvent.GAME_PAUSED, AudioEvent.GAME_PAUSED, AudioEvent.ATOM_MOLECULE_COLLISION), recorder.events);
+        assertEquals(19, queue.getCollapsedCount());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void dropsWhenFull() {
+        Recorder recorder = new Recorder();
+        AudioEventQueue queue = new AudioEventQueue(recorder, recorder, 4, 0, new VirtualClock());
+        for (int i = 0; i < 10; i++)
+            assertEquals(i < 4, queue.publish(AudioEvent.SHOOT));
+        assertEquals(6, queue.getDroppedCount());
+        assertEquals(4, queue.drain());
+        // the slots are free again after the drain
+        assertTrue(queue.publish(AudioEvent.GAME_OVER));
+        assertEquals(1, queue.drain());
+        assertEquals(5, recorder.events.size());
+    }
+
+    @Test
+    void theAudioThreadDeliversEveryEventOfManyPublishers() throws InterruptedException {
+        int publishers = 4;
+        int perPublisher = 5000;
+        Recorder recorder = new Recorder();
+        AudioEventQueue queue = new AudioEventQueue(recorder, recorder, 1 << 16, 0, SystemClock.getInstance());
+        queue.start();
+        CountDownLatch done = new CountDownLatch(publishers);
+        for (int p = 0; p < publishers; p++) {
+            new Thread(() -> {
+                for (int i = 0; i < perPublisher; i++)
+                    queue.onShoot();
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (recorder.events.size() + queue.getDroppedCount() < publishers * perPublisher
+                && System.nanoTime() < deadline)
+            Thread.sleep(1);
+        queue.stop();
+        assertEquals(publishers * perPublisher, recorder.events.size() + queue.getDroppedCount());
+    }
+
+    @Test
+    void stopDeliversThePublishedEventsAndEndsTheThread() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        AudioEventQueue queue = new AudioEventQueue(recorder, recorder, 8, 0, SystemClock.getInstance());
+        queue.start();
+        Thread audioThread = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (audioThread == null && System.nanoTime() < deadline) {
+            for (Thread thread : Thread.getAllStackTraces().keySet())
+                if (thread.getName().equals("audio") && thread.isAlive())
+                    audioThread = thread;
+        }
+        assertNotNull(audioThread);
+        // an idle audio thread waits for a publisher instead of polling the ring
+        while (audioThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline)
+            Thread.sleep(1);
+        assertEquals(Thread.State.WAITING, audioThread.getState());
+
+        queue.onGameOver();
+        queue.stop();
+        audioThread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(audioThread.isAlive());
+        assertEquals(Arrays.asList(AudioEvent.GAME_OVER), recorder.events);
+    }
+
+    @Test
+    void listenerErrorsStayOnTheAudioThread() {
+        CollisionHandler.OnCollisionListener failing = new Recorder() {
+            @Override
+            public void onAtomBlockerCollision() {
+                throw new IllegalStateException("no audio device");
+            }
+        };
+        AudioEventQueue queue = new AudioEventQueue(failing, null, 8, 0, new VirtualClock());
+        queue.onAtomBlockerCollision();
+        queue.onGameOver(); // no game state listener
+        assertEquals(2, queue.drain());
+    }
+}
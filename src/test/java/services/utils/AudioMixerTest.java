@@ -0,0 +1,121 @@
+package services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioMixerTest {
+
+    /**
+     * a mono 16 bit sound of the given samples at the rate of the mixer.
+     */
+    private static MixerSound mono(short... samples) {
+        byte[] data = new byte[samples.length * 2];
+        for (int i = 0; i < samples.length; i++) {
+            data[2 * i] = (byte) samples[i];
+            data[2 * i + 1] = (byte) (samples[i] >> 8);
+        }
+        return MixerSound.of(new DecodedSound(new AudioFormat(AudioMixer.SAMPLE_RATE, 16, 1, true, false), data));
+    }
+
+    private static short sampleAt(byte[] buffer, int index) {
+        return (short) ((buffer[2 * index] & 0xff) | (buffer[2 * index + 1] << 8));
+    }
+
+    @Test
+    void sumsTheVoicesAndFreesThemWhenTheyEnd() {
+        AudioMixer mixer = new AudioMixer(4);
+        mixer.play(mono((short) 100, (short) 200, (short) 300), 1f, false);
+        mixer.play(mono((short) 10), 2f, false);
+
+        byte[] buffer = new byte[4 * AudioMixer.FRAME_SIZE];
+        mixer.mix(buffer, 0, 4);
+        short[] expected = {120, 120, 200, 200, 300, 300, 0, 0}; // mono plays on both channels
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], sampleAt(buffer, i), "sample " + i);
+        assertEquals(0, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void clipsTheSum() {
+        AudioMixer mixer = new AudioMixer(4);
+        mixer.play(mono((short) 30000, (short) -30000), 1f, false);
+        mixer.play(mono((short) 30000, (short) -30000), 1f, false);
+        byte[] buffer = new byte[2 * AudioMixer.FRAME_SIZE];
+        mixer.mix(buffer, 0, 2);
+        assertEquals(Short.MAX_VALUE, sampleAt(buffer, 0));
+        assertEquals(Short.MIN_VALUE, sampleAt(buffer, 2));
+    }
+
+    @Test
+    void limitsTheVoices() {
+        AudioMixer mixer = new AudioMixer(2);
+        MixerSound sound = mono(new short[100]);
+        assertTrue(mixer.play(sound, 1f, false) > 0);
+        assertTrue(mixer.play(sound, 1f, false) > 0);
+        for (int i = 0; i < 1000; i++)
+            assertEquals(-1, mixer.play(sound, 1f, false));
+        assertEquals(2, mixer.getActiveVoiceCount());
+        assertEquals(1000, mixer.getSkippedCount());
+    }
+
+    @Test
+    void musicTakesTheVoiceOfAnEffect() {
+        AudioMixer mixer = new AudioMixer(2);
+        int longEffect = mixer.play(mono(new short[100]), 1f, false);
+        int shortEffect = mixer.play(mono(new short[10]), 1f, false);
+        assertEquals(-1, mixer.play(mono((short) 1), 1f, true));
+
+        // the effect that ends soonest gives its voice to the music
+        int music = mixer.playOverEffects(mono((short) 5), 1f, true);
+        assertTrue(music > 0);
+        assertTrue(mixer.isActive(longEffect));
+        assertFalse(mixer.isActive(shortEffect));
+
+        // looping sounds are never taken over
+        mixer.stop(longEffect);
+        assertTrue(mixer.playOverEffects(mono((short) 7), 1f, true) > 0);
+        assertEquals(-1, mixer.playOverEffects(mono((short) 9), 1f, true));
+        assertTrue(mixer.isActive(music));
+    }
+
+    @Test
+    void loopsPausesAndStops() {
+        AudioMixer mixer = new AudioMixer(2);
+        int music = mixer.play(mono((short) 1, (short) 2, (short) 3), 1f, true);
+        byte[] buffer = new byte[5 * AudioMixer.FRAME_SIZE];
+        mixer.mix(buffer, 0, 5);
+        assertEquals(2, sampleAt(buffer, 8)); // the fifth frame is the second sample again
+
+        mixer.setPaused(music, true);
+        mixer.mix(buffer, 0, 1);
+        assertEquals(0, sampleAt(buffer, 0));
+        mixer.setPaused(music, false);
+        mixer.mix(buffer, 0, 1);
+        assertEquals(3, sampleAt(buffer, 0)); // the paused voice held its position
+
+        mixer.stop(music);
+        assertFalse(mixer.isActive(music));
+        mixer.stop(music); // stopping an ended sound does nothing
+    }
+
+    @Test
+    void convertsTheRate() {
+        // a ramp at half the rate of the mixer takes twice the frames, the frames in between are interpolated
+        byte[] data = new byte[4];
+        data[0] = 0;
+        data[2] = 100;
+        MixerSound sound = MixerSound.of(new DecodedSound(
+                new AudioFormat(AudioMixer.SAMPLE_RATE / 2, 16, 1, true, false), data));
+        assertEquals(4, sound.getFrameCount());
+        AudioMixer mixer = new AudioMixer(1);
+        mixer.play(sound, 1f, false);
+        byte[] buffer = new byte[4 * AudioMixer.FRAME_SIZE];
+        mixer.mix(buffer, 0, 4);
+        assertEquals(0, sampleAt(buffer, 0));
+        assertEquals(50, sampleAt(buffer, 2));
+        assertEquals(100, sampleAt(buffer, 4));
+    }
+}
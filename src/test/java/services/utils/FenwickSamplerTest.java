@@ -0,0 +1,63 @@
+package services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenwickSamplerTest {
+
+    @Test
+    void drawsProportionallyToTheWeights() {
+        FenwickSampler sampler = new FenwickSampler(5);
+        long[] weights = {3, 0, 1, 6, 0};
+        for (int i = 0; i < weights.length; i++)
+            sampler.setWeight(i, weights[i]);
+        assertEquals(10, sampler.getTotal());
+
+        Random random = new Random(19);
+        int draws = 100000;
+        int[] drawn = new int[weights.length];
+        for (int i = 0; i < draws; i++)
+            drawn[sampler.sample(random)]++;
+        for (int i = 0; i < weights.length; i++)
+            assertEquals(draws * weights[i] / 10.0, drawn[i], 1000, "index " + i);
+    }
+
+    @Test
+    void everyTargetFindsItsIndex() {
+        FenwickSampler sampler = new FenwickSampler(7);
+        long[] weights = {2, 0, 0, 3, 1, 0, 4};
+        for (int i = 0; i < weights.length; i++)
+            sampler.setWeight(i, weights[i]);
+        // a random source that returns the given target, each target must map to the index that covers it
+        int index = 0;
+        long end = weights[0];
+        for (int target = 0; target < sampler.getTotal(); target++) {
+            while (target >= end)
+                end += weights[++index];
+            int fixed = target;
+            assertEquals(index, sampler.sample(new Random() {
+                @Override
+                public int nextInt(int bound) {
+                    return fixed;
+                }
+            }));
+        }
+    }
+
+    @Test
+    void updatesAndEmpty() {
+        FenwickSampler sampler = new FenwickSampler(4);
+        assertEquals(-1, sampler.sample(new Random(1)));
+        sampler.setWeight(2, 5);
+        sampler.setWeight(2, 0);
+        sampler.setWeight(1, 1);
+        assertEquals(1, sampler.getTotal());
+        assertEquals(1, sampler.sample(new Random(1)));
+        sampler.clear();
+        assertEquals(-1, sampler.sample(new Random(1)));
+        assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, -1));
+    }
+}
@@ -0,0 +1,157 @@
+package services.utils;
+
+import model.game_building.ConfigurationFixture;
+import model.game_building.GameConstants;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_physics.MovementKernel;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.hitbox.Hitbox;
+import model.game_physics.hitbox.RectangularHitbox;
+import model.game_physics.path_patterns.StraightPattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MathKernelTest {
+
+    // the counter of a thread is updated a buffer at a time, a few hundred bytes are noise and not a leak
+    private static final long ALLOCATION_SLACK = 4096;
+
+    @RegisterExtension
+    static final ConfigurationFixture CONFIGURATION = new ConfigurationFixture();
+
+    @Test
+    void rotateMatchesApplyRotation() {
+        Random random = new Random(16);
+        double[] out = new double[2];
+        Coordinates holder = new Coordinates(0, 0);
+        for (int i = 0; i < 1000; i++) {
+            Coordinates center = new Coordinates(random.nextDouble() * 100, random.nextDouble() * 100);
+            Coordinates point = new Coordinates(random.nextDouble() * 100, random.nextDouble() * 100);
+            double angle = random.nextDouble() * 720 - 360;
+            Coordinates expected = MathUtils.applyRotation(angle, center, point);
+
+            MathKernel.rotate(angle, center.getX(), center.getY(), point.getX(), point.getY(), out, 0);
+            assertEquals(expected.getX(), out[0]);
+            assertEquals(expected.getY(), out[1]);
+            MathKernel.rotate(angle, center.getX(), center.getY(), point.getX(), point.getY(), holder);
+            assertEquals(expected, holder);
+        }
+    }
+
+    @Test
+    void containmentMatchesMathUtils() {
+        Random random = new Random(16);
+        for (int i = 0; i < 1000; i++) {
+            Coordinates center = new Coordinates(random.nextInt(10), random.nextInt(10));
+            Coordinates point = new Coordinates(random.nextInt(20) - 5, random.nextInt(20) - 5);
+            double radius = random.nextInt(6);
+            double halfWidth = random.nextInt(6);
+            double halfHeight = random.nextInt(6);
+            Vector corner = new Vector(center, new Coordinates(center.getX() + halfWidth, center.getY() + halfHeight));
+
+            assertEquals(MathUtils.isWithinCircle(center, radius, point),
+                    MathKernel.isWithinCircle(center.getX(), center.getY(), radius, point.getX(), point.getY()));
+            assertEquals(MathUtils.isWithinRectangle(corner, point),
+                    MathKernel.isWithinRectangle(center.getX(), center.getY(), halfWidth, halfHeight,
+                            point.getX(), point.getY()));
+        }
+    }
+
+    @Test
+    void boundaryPointsMatchTheLists() {
+        Coordinates center = new Coordinates(12.5, 40);
+        for (Hitbox hitbox : Arrays.asList(new CircularHitbox(7), new RectangularHitbox(10, 4))) {
+            hitbox.rotate(33);
+            List<Coordinates> expected = hitbox.getBoundaryPoints(center);
+            double[] points = new double[2 * hitbox.getBoundaryPointCount()];
+            hitbox.getBoundaryPoints(center, points);
+
+            assertEquals(expected.size(), hitbox.getBoundaryPointCount());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), new Coordinates(points[2 * i], points[2 * i + 1]), hitbox + " point " + i);
+            }
+        }
+    }
+
+    @Test
+    void reflectMatchesVelocity() {
+        double[] out = new double[2];
+        Velocity velocity = new Velocity(3, -2);
+        for (Vector normal : Arrays.asList(new Vector(1, 0), new Vector(-1, 0), new Vector(0, 1),
+                new Vector(Math.sqrt(0.5), Math.sqrt(0.5)))) {
+            Velocity expected = velocity.reflect(normal);
+            MathKernel.reflect(velocity.getXv(), velocity.getYv(), normal.getX(), normal.getY(), out);
+            assertEquals(expected.getXv(), out[0], 1e-12);
+            assertEquals(expected.getYv(), out[1], 1e-12);
+        }
+    }
+
+    @Test
+    void hotPathsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+
+        CircularHitbox circle = new CircularHitbox(5);
+        RectangularHitbox rectangle = new RectangularHitbox(10, 4);
+        circle.rotate(20);
+        rectangle.rotate(-36); // the game turns hitboxes by the steps of the rotation table
+        Coordinates center = new Coordinates(50, 50);
+        Coordinates other = new Coordinates(54, 51);
+        double[] points = new double[2 * rectangle.getBoundaryPointCount()];
+
+        List<AutonomousEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entities.add(new Atom(new Coordinates(i, i), new CircularHitbox(1),
+                    new StraightPattern(new Velocity(0.5, 1)), EntityType.ALPHA, 1.0, 1, 1));
+        }
+        MovementKernel kernel = new MovementKernel();
+
+        Runnable tick = () -> {
+            rectangle.rotate(GameConstants.SPINNING_SPEED); // a spinning molecule turns every tick
+            boolean hit = circle.collidesWith(center, rectangle, other);
+            hit |= rectangle.isInside(center, other.getX(), other.getY());
+            circle.getBoundaryPoints(other, points);
+            hit |= rectangle.isInside(center, points, circle.getBoundaryPointCount());
+            rectangle.getBoundaryPoints(other, points);
+            hit |= circle.isInside(center, points, rectangle.getBoundaryPointCount());
+            MathKernel.reflect(1, 2, 1, 0, points);
+            kernel.move(entities);
+            assertTrue(hit);
+        };
+        // both the exact and the sampled collision tests
+        for (boolean sampled : new boolean[]{false, true}) {
+            Hitbox.setSampledCollisions(sampled);
+            try {
+                // steady state: the buffers are grown and the kernel bound to the entities
+                for (int i = 0; i < 20000; i++)
+                    tick.run();
+
+                long thread = Thread.currentThread().getId();
+                long before = threads.getThreadAllocatedBytes(thread);
+                for (int i = 0; i < 1000; i++)
+                    tick.run();
+                long allocated = threads.getThreadAllocatedBytes(thread) - before;
+                assertTrue(allocated < ALLOCATION_SLACK, allocated + " bytes allocated in 1000 ticks, sampled " + sampled);
+            } finally {
+                Hitbox.setSampledCollisions(false);
+            }
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+}
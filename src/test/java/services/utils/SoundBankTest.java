@@ -0,0 +1,35 @@
+package services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioSystem;
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundBankTest {
+
+    @Test
+    void decodesEveryEffectIntoMemory() throws Exception {
+        SoundBank bank = new SoundBank(new AudioMixer(4));
+        for (SoundEffect effect : SoundEffect.values()) {
+            MixerSound sound = bank.getSound(effect);
+            assertNotNull(sound, effect + " was not loaded");
+            // every frame of the file is in memory, the effects are already at the rate of the mixer
+            int frames = AudioSystem.getAudioFileFormat(new File(effect.getFilePath())).getFrameLength();
+            assertEquals(frames, sound.getFrameCount(), effect + " is not fully decoded");
+        }
+    }
+
+    @Test
+    void effectsPlayInTheVoicesOfTheMixer() {
+        AudioMixer mixer = new AudioMixer(4);
+        SoundBank bank = new SoundBank(mixer);
+        for (int i = 0; i < 4; i++)
+            assertTrue(bank.play(SoundEffect.COLLECT_MOLECULE));
+        assertFalse(bank.play(SoundEffect.PROJECTILE_SHOT));
+        assertEquals(4, mixer.getActiveVoiceCount());
+        assertEquals(1, mixer.getSkippedCount());
+        assertNull(bank.getMusic("assets/Sounds/GameMusic/missing.wav"));
+    }
+}
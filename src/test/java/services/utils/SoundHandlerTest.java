@@ -0,0 +1,36 @@
+package services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundHandlerTest {
+
+    @Test
+    void stoppingTheMusicFreesItsVoice() {
+        AudioMixer mixer = new AudioMixer(4);
+        SoundHandler handler = new SoundHandler(new SoundBank(mixer));
+        handler.onGameStart();
+        handler.onGameOver();
+        assertEquals(1, mixer.getActiveVoiceCount(), "only the game over music plays");
+        handler.stopMusic();
+        assertEquals(0, mixer.getActiveVoiceCount());
+        // a game over delivered by the audio thread after the game was closed does not take a voice again
+        handler.onGameOver();
+        assertEquals(0, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void closedGamesDoNotKeepTheVoices() {
+        AudioMixer mixer = new AudioMixer(4);
+        SoundBank bank = new SoundBank(mixer);
+        for (int game = 0; game < 2 * mixer.getVoiceCount(); game++) {
+            SoundHandler handler = new SoundHandler(bank);
+            handler.onGameStart();
+            handler.onGameOver();
+            assertTrue(mixer.getActiveVoiceCount() > 0, "the music of game " + game + " was skipped");
+            handler.stopMusic();
+        }
+        assertEquals(0, mixer.getSkippedCount());
+    }
+}
@@ -0,0 +1,91 @@
+package ui.movable_drawables;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest {
+
+    // a 10x10 sprite takes 400 bytes
+    private static final long SPRITE_BYTES = 10 * 10 * 4;
+
+    private final List<SpriteCache.Key> loads = new ArrayList<>();
+
+    private SpriteCache cache(long maxBytes) {
+        return new SpriteCache(maxBytes, key -> {
+            loads.add(key);
+            return new BufferedImage(key.getWidth(), key.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        });
+    }
+
+    @Test
+    void aSpriteIsLoadedOncePerSize() {
+        SpriteCache cache = cache(10 * SPRITE_BYTES);
+        BufferedImage first = cache.get("pepega", "atom.png", 10, 10);
+        assertSame(first, cache.get("pepega", "atom.png", 10, 10));
+        assertNotSame(first, cache.get("pepega", "atom.png", 20, 10));
+        assertNotSame(first, cache.get("disco", "atom.png", 10, 10));
+
+        assertEquals(3, loads.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(3, cache.size());
+        assertEquals(SPRITE_BYTES + 2 * SPRITE_BYTES + SPRITE_BYTES, cache.getBytes());
+        // an empty size is loaded as a single pixel
+        assertEquals(1, cache.get("pepega", "atom.png", 0, -4).getWidth());
+    }
+
+    @Test
+    void theLeastRecentlyUsedSpritesAreDroppedAtTheByteLimit() {
+        SpriteCache cache = cache(3 * SPRITE_BYTES);
+        cache.get("pepega", "a.png", 10, 10);
+        cache.get("pepega", "b.png", 10, 10);
+        cache.get("pepega", "c.png", 10, 10);
+        cache.get("pepega", "a.png", 10, 10); // a is now used more recently than b
+        assertEquals(0, cache.getEvictions());
+        assertEquals(3 * SPRITE_BYTES, cache.getBytes());
+
+        cache.get("pepega", "d.png", 10, 10);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(3, cache.size());
+        assertEquals(3 * SPRITE_BYTES, cache.getBytes());
+
+        // b was dropped, a was kept
+        loads.clear();
+        cache.get("pepega", "a.png", 10, 10);
+        assertTrue(loads.isEmpty());
+        cache.get("pepega", "b.png", 10, 10);
+        assertEquals(1, loads.size());
+        assertEquals(2, cache.getEvictions()); // c went to make room for b
+    }
+
+    @Test
+    void aSpriteLargerThanTheCacheIsStillKept() {
+        SpriteCache cache = cache(SPRITE_BYTES);
+        cache.get("pepega", "a.png", 10, 10);
+        BufferedImage large = cache.get("pepega", "large.png", 20, 20);
+        assertEquals(1, cache.size());
+        assertEquals(4 * SPRITE_BYTES, cache.getBytes());
+        assertSame(large, cache.get("pepega", "large.png", 20, 20));
+    }
+
+    @Test
+    void rotatedCopiesCountAgainstTheLimit() {
+        SpriteCache cache = cache(3 * SPRITE_BYTES);
+        cache.get("pepega", "a.png", 10, 10);
+        BufferedImage turned = cache.get("pepega", "a.png", 10, 10, 5);
+        assertSame(turned, cache.get("pepega", "a.png", 10, 10, 5));
+        assertEquals(2, cache.size());
+        assertEquals(5, loads.get(1).getOrientation());
+
+        // every orientation is a sprite of its own, the oldest ones are dropped like any sprite
+        for (int orientation = 0; orientation < 10; orientation++)
+            cache.get("pepega", "a.png", 10, 10, orientation);
+        assertEquals(3, cache.size());
+        assertEquals(3 * SPRITE_BYTES, cache.getBytes());
+    }
+}